@@ -0,0 +1,36 @@
+#!/bin/bash
+
+# Builds an AppCDS archive for fast starts (JDK 13+ at runtime).
+# The class data sharing archive holds the classes loaded by one training boot in the
+# fast profile, so later boots map them in instead of loading and verifying each one.
+# CDS cannot archive classes from the nested jars of the Spring Boot fat jar, nor use a
+# directory on the classpath, so the jar is unpacked and the application classes repacked.
+#
+#   ./build-appcds.sh
+#   java -XX:SharedArchiveFile=target/cds/app.jsa -cp "target/cds/app.jar:target/cds/BOOT-INF/lib/*" \
+#        com.example.eventsapp.App --spring.profiles.active=fast
+
+set -e
+
+CDS_DIR=target/cds
+CLASSPATH="$CDS_DIR/app.jar:$CDS_DIR/BOOT-INF/lib/*"
+
+if [ ! -f data/events.mv.db ]; then
+    echo "Building the H2 snapshot the fast profile opens..."
+    mvn -B -q spring-boot:run -Dspring-boot.run.profiles=snapshot
+fi
+
+echo "Packaging..."
+mvn -B -q package -DskipTests
+
+rm -rf "$CDS_DIR"
+mkdir -p "$CDS_DIR"
+(cd "$CDS_DIR" && jar -xf ../events-backend-1.0-SNAPSHOT.jar)
+jar -cf "$CDS_DIR/app.jar" -C "$CDS_DIR/BOOT-INF/classes" .
+
+echo "Training boot (exits once ready)..."
+java -XX:ArchiveClassesAtExit="$CDS_DIR/app.jsa" -cp "$CLASSPATH" com.example.eventsapp.App \
+    --spring.profiles.active=fast --app.startup.exit=true
+
+echo "Archive written to $CDS_DIR/app.jsa. Start with:"
+echo "  java -XX:SharedArchiveFile=$CDS_DIR/app.jsa -cp \"$CLASSPATH\" com.example.eventsapp.App --spring.profiles.active=fast"
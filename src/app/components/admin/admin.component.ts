@@ -1,16 +1,21 @@
 import { Component, OnInit } from '@angular/core';
 import { Event } from '../../models/event';
+import { EventSummary } from '../../models/event-summary';
 import { Category } from '../../models/category';
 import { EventService } from '../../services/event.service';
 import { CategoryService } from '../../services/category.service';
 
+const PAGE_SIZE = 100;
+
 @Component({
   selector: 'app-admin',
   templateUrl: './admin.component.html',
   styleUrls: ['./admin.component.css']
 })
 export class AdminComponent implements OnInit {
-  events: Event[] = [];
+  events: EventSummary[] = [];
+  nextCursor: string | null = null;
+  loadingMore = false;
   categories: Category[] = [];
   selectedEvent: Event | null = null;
   isEditing = false;
@@ -35,12 +40,33 @@ export class AdminComponent implements OnInit {
   }
 
   loadEvents(): void {
-    this.eventService.getEvents().subscribe(
-      events => this.events = events,
+    this.eventService.getEventsPage(null, null, PAGE_SIZE).subscribe(
+      page => {
+        this.events = page.items;
+        this.nextCursor = page.nextCursor || null;
+      },
       error => console.error('Error loading events:', error)
     );
   }
 
+  loadMore(): void {
+    if (!this.nextCursor || this.loadingMore) {
+      return;
+    }
+    this.loadingMore = true;
+    this.eventService.getEventsPage(this.nextCursor, null, PAGE_SIZE).subscribe(
+      page => {
+        this.events = [...this.events, ...page.items];
+        this.nextCursor = page.nextCursor || null;
+        this.loadingMore = false;
+      },
+      error => {
+        this.loadingMore = false;
+        console.error('Error loading more events:', error);
+      }
+    );
+  }
+
   loadCategories(): void {
     this.categoryService.getAllCategories().subscribe(
       categories => this.categories = categories,
@@ -66,22 +92,31 @@ export class AdminComponent implements OnInit {
     };
   }
 
-  editEvent(event: Event): void {
-    this.selectedEvent = { ...event };
-    this.isEditing = true;
-    this.isAdding = false;
+  // The list holds summaries; the form needs the full event, description included
+  editEvent(event: EventSummary): void {
+    this.eventService.getEvent(event.id!).subscribe(
+      full => {
+        this.selectedEvent = { ...full };
+        this.isEditing = true;
+        this.isAdding = false;
+      },
+      error => {
+        console.error('Error loading event:', error);
+        this.reportWriteError(error, 'Error loading event. Please try again.');
+      }
+    );
   }
 
-  deleteEvent(event: Event): void {
+  deleteEvent(event: EventSummary): void {
     if (confirm(`Are you sure you want to delete "${event.title}"?`)) {
-      this.eventService.deleteEvent(event.id!).subscribe(
+      this.eventService.deleteEvent(event.id!, event.version).subscribe(
         () => {
           this.loadEvents();
           alert('Event deleted successfully!');
         },
         error => {
           console.error('Error deleting event:', error);
-          alert('Error deleting event. Please try again.');
+          this.reportWriteError(error, 'Error deleting event. Please try again.');
         }
       );
     }
@@ -110,20 +145,33 @@ export class AdminComponent implements OnInit {
         },
         error => {
           console.error('Error updating event:', error);
-          alert('Error updating event. Please try again.');
+          this.reportWriteError(error, 'Error updating event. Please try again.');
         }
       );
     }
   }
 
+  private reportWriteError(error: any, message: string): void {
+    if (error.status === 409) {
+      // Someone else changed the event since it was loaded; show the current data
+      this.loadEvents();
+      alert('This event was changed by someone else. The list has been reloaded, please try again.');
+    } else if (error.status === 404) {
+      this.loadEvents();
+      alert('This event no longer exists.');
+    } else {
+      alert(message);
+    }
+  }
+
   cancel(): void {
     this.isAdding = false;
     this.isEditing = false;
     this.selectedEvent = null;
   }
 
-  formatDate(dateString: string): string {
-    return new Date(dateString).toLocaleDateString();
+  formatDate(dateString: string | null): string {
+    return dateString ? new Date(dateString).toLocaleDateString() : 'Unscheduled';
   }
 
   getCategoryName(category: Category | undefined): string {
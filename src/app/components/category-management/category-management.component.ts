@@ -65,6 +65,9 @@ export class CategoryManagementComponent implements OnInit {
         },
         error: (error) => {
           console.error('Error updating category:', error);
+          if (error.status === 409) {
+            alert('This category was changed by someone else. Please reload and try again.');
+          }
         }
       });
     }
@@ -72,12 +75,15 @@ export class CategoryManagementComponent implements OnInit {
 
   deleteCategory(category: Category): void {
     if (confirm(`Are you sure you want to delete the category "${category.name}"?`)) {
-      this.categoryService.deleteCategory(category.id!).subscribe({
+      this.categoryService.deleteCategory(category.id!, category.version).subscribe({
         next: () => {
           this.categories = this.categories.filter(c => c.id !== category.id);
         },
         error: (error) => {
           console.error('Error deleting category:', error);
+          if (error.status === 409) {
+            alert('This category was changed or is still used by events.');
+          }
         }
       });
     }
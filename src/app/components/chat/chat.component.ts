@@ -1,15 +1,21 @@
-import { Component, OnInit } from '@angular/core';
+import { Component, OnDestroy, OnInit } from '@angular/core';
+import { Subscription, timer } from 'rxjs';
+import { filter, switchMap, take } from 'rxjs/operators';
 import { EventService } from '../../services/event.service';
+import { ChatJob } from '../../models/chat-job';
+
+const JOB_POLL_INTERVAL_MS = 500;
 
 @Component({
   selector: 'app-chat',
   templateUrl: './chat.component.html',
   styleUrls: ['./chat.component.css']
 })
-export class ChatComponent implements OnInit {
+export class ChatComponent implements OnInit, OnDestroy {
   message = '';
   messages: Array<{text: string, isUser: boolean, timestamp: Date}> = [];
   loading = false;
+  private jobSubscription?: Subscription;
 
   constructor(private eventService: EventService) { }
 
@@ -37,11 +43,17 @@ export class ChatComponent implements OnInit {
     this.loading = true;
     this.message = '';
 
-    // Send message to backend
-    this.eventService.sendChatMessage(userMessage).subscribe({
-      next: () => {
+    // The backend queues the message; poll the job until the worker has handled it
+    this.jobSubscription = this.eventService.sendChatMessage(userMessage).pipe(
+      switchMap(job => timer(0, JOB_POLL_INTERVAL_MS).pipe(
+        switchMap(() => this.eventService.getChatJob(job.id)),
+        filter(status => status.status !== 'QUEUED'),
+        take(1)
+      ))
+    ).subscribe({
+      next: (job) => {
         this.messages.push({
-          text: 'Great! I\'ve processed your request. The events list should be updated now. You can refresh the page to see the new events.',
+          text: this.describeOutcome(job),
           isUser: false,
           timestamp: new Date()
         });
@@ -49,7 +61,9 @@ export class ChatComponent implements OnInit {
       },
       error: (error) => {
         this.messages.push({
-          text: 'Sorry, I encountered an error while processing your request. Please try again.',
+          text: error.status === 503
+            ? 'I\'m handling a lot of requests right now. Please try again in a moment.'
+            : 'Sorry, I encountered an error while processing your request. Please try again.',
           isUser: false,
           timestamp: new Date()
         });
@@ -59,6 +73,20 @@ export class ChatComponent implements OnInit {
     });
   }
 
+  ngOnDestroy(): void {
+    this.jobSubscription?.unsubscribe();
+  }
+
+  private describeOutcome(job: ChatJob): string {
+    if (job.status === 'FAILED') {
+      return 'Sorry, I couldn\'t save that event: ' + (job.message || 'unknown error') + '.';
+    }
+    if (job.eventId != null) {
+      return 'Done! I\'ve added the event to your calendar.';
+    }
+    return 'I didn\'t find anything to do there. Try saying something like "add a concert event".';
+  }
+
   onKeyPress(event: KeyboardEvent): void {
     if (event.key === 'Enter' && !event.shiftKey) {
       event.preventDefault();
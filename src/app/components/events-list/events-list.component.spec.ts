@@ -1,11 +1,12 @@
 import { ComponentFixture, TestBed } from '@angular/core/testing';
 import { RouterTestingModule } from '@angular/router/testing';
 import { HttpClientTestingModule } from '@angular/common/http/testing';
-import { of, throwError } from 'rxjs';
+import { NEVER, of, Subject, throwError } from 'rxjs';
 import { EventsListComponent } from './events-list.component';
 import { EventService } from '../../services/event.service';
 import { Event } from '../../models/event';
 import { Category } from '../../models/category';
+import { StreamMessage } from '../../models/change';
 import { Router } from '@angular/router';
 
 describe('EventsListComponent', () => {
@@ -41,7 +42,7 @@ describe('EventsListComponent', () => {
   ];
 
   beforeEach(async () => {
-    const eventServiceSpy = jasmine.createSpyObj('EventService', ['getEvents']);
+    const eventServiceSpy = jasmine.createSpyObj('EventService', ['getEventsPage', 'streamChanges']);
     const routerSpy = jasmine.createSpyObj('Router', ['navigate']);
 
     await TestBed.configureTestingModule({
@@ -55,6 +56,7 @@ describe('EventsListComponent', () => {
     .compileComponents();
 
     eventService = TestBed.inject(EventService) as jasmine.SpyObj<EventService>;
+    eventService.streamChanges.and.returnValue(NEVER);
     router = TestBed.inject(Router) as jasmine.SpyObj<Router>;
   });
 
@@ -69,90 +71,122 @@ describe('EventsListComponent', () => {
 
   describe('ngOnInit', () => {
     it('should load events on initialization', () => {
-      eventService.getEvents.and.returnValue(of(mockEvents));
+      eventService.getEventsPage.and.returnValue(of({ items: mockEvents, nextCursor: null }));
 
       fixture.detectChanges();
 
-      expect(eventService.getEvents).toHaveBeenCalled();
+      expect(eventService.getEventsPage).toHaveBeenCalled();
       expect(component.events).toEqual(mockEvents);
-      expect(component.filteredEvents).toEqual(mockEvents);
       expect(component.loading).toBeFalse();
       expect(component.error).toBe('');
     });
 
     it('should handle error when loading events fails', () => {
       const errorMessage = 'Failed to load events';
-      eventService.getEvents.and.returnValue(throwError(() => new Error(errorMessage)));
+      eventService.getEventsPage.and.returnValue(throwError(() => new Error(errorMessage)));
 
       fixture.detectChanges();
 
-      expect(eventService.getEvents).toHaveBeenCalled();
+      expect(eventService.getEventsPage).toHaveBeenCalled();
       expect(component.error).toBe('Failed to load events. Please try again.');
       expect(component.loading).toBeFalse();
     });
   });
 
+  describe('change stream', () => {
+    let changes: Subject<StreamMessage>;
+
+    beforeEach(() => {
+      changes = new Subject<StreamMessage>();
+      eventService.streamChanges.and.returnValue(changes);
+      eventService.getEventsPage.and.returnValue(of({ items: mockEvents, nextCursor: null }));
+      fixture.detectChanges();
+    });
+
+    it('should append created events once the last page is loaded', () => {
+      const created = { id: 3, type: 'event', title: 'New', date: null, category: mockCategory };
+      changes.next({ type: 'change', change: { entity: 'EVENT', action: 'CREATED', id: 3, data: created } });
+
+      expect(component.events.length).toBe(3);
+      expect(component.events[2].title).toBe('New');
+      expect(eventService.getEventsPage).toHaveBeenCalledTimes(1);
+    });
+
+    it('should replace updated events and drop deleted ones in place', () => {
+      const updated = { id: 1, type: 'concert', title: 'Renamed', date: '2024-12-25', category: mockCategory };
+      changes.next({ type: 'change', change: { entity: 'EVENT', action: 'UPDATED', id: 1, data: updated } });
+      changes.next({ type: 'change', change: { entity: 'EVENT', action: 'DELETED', id: 2 } });
+
+      expect(component.events.map(event => event.title)).toEqual(['Renamed']);
+    });
+
+    it('should rename the category on affected events', () => {
+      changes.next({ type: 'change', change: { entity: 'CATEGORY', action: 'UPDATED', id: 1, data: { id: 1, name: 'Live Music' } } });
+
+      expect(component.events.every(event => event.category?.name === 'Live Music')).toBeTrue();
+    });
+
+    it('should reload everything on reset', () => {
+      changes.next({ type: 'reset' });
+
+      expect(eventService.getEventsPage).toHaveBeenCalledTimes(2);
+    });
+  });
+
   describe('ngOnChanges', () => {
-    it('should filter events when selectedCategory changes', () => {
-      component.events = mockEvents;
-      component.filteredEvents = mockEvents;
-      
+    it('should reload events from the server when selectedCategory changes', () => {
+      eventService.getEventsPage.and.returnValue(of({ items: mockEvents, nextCursor: null }));
+      component.selectedCategory = mockCategory;
+
       const changes = {
         selectedCategory: {
           currentValue: mockCategory,
           previousValue: null,
-          firstChange: true,
-          isFirstChange: () => true
+          firstChange: false,
+          isFirstChange: () => false
         }
       };
 
       component.ngOnChanges(changes);
 
-      expect(component.filteredEvents.length).toBe(2);
-      expect(component.filteredEvents[0].category?.id).toBe(mockCategory.id);
+      expect(eventService.getEventsPage).toHaveBeenCalledWith(null, mockCategory.id);
+      expect(component.events).toEqual(mockEvents);
     });
 
-    it('should show all events when selectedCategory is null', () => {
-      component.events = mockEvents;
-      component.selectedCategory = mockCategory;
-      component.filteredEvents = [mockEvents[0]]; // Only one event filtered
-      
+    it('should leave the initial binding to ngOnInit', () => {
       const changes = {
         selectedCategory: {
-          currentValue: null,
-          previousValue: mockCategory,
-          firstChange: false,
-          isFirstChange: () => false
+          currentValue: mockCategory,
+          previousValue: null,
+          firstChange: true,
+          isFirstChange: () => true
         }
       };
 
       component.ngOnChanges(changes);
 
-      expect(component.filteredEvents).toEqual(mockEvents);
+      expect(eventService.getEventsPage).not.toHaveBeenCalled();
     });
 
-    it('should not filter events when selectedCategory is not in changes', () => {
-      component.events = mockEvents;
-      component.filteredEvents = mockEvents;
-      
+    it('should not reload events when selectedCategory is not in changes', () => {
       const changes = {
         someOtherProperty: {
           currentValue: 'value',
           previousValue: null,
-          firstChange: true,
-          isFirstChange: () => true
+          firstChange: false,
+          isFirstChange: () => false
         }
       };
 
       component.ngOnChanges(changes);
 
-      expect(component.filteredEvents).toEqual(mockEvents);
+      expect(eventService.getEventsPage).not.toHaveBeenCalled();
     });
   });
 
   describe('loadEvents', () => {
     it('should load events successfully', () => {
-      eventService.getEvents.and.returnValue(of(mockEvents));
+      eventService.getEventsPage.and.returnValue(of({ items: mockEvents, nextCursor: null }));
 
       component.loadEvents();
 
@@ -163,12 +197,11 @@ describe('EventsListComponent', () => {
       fixture.detectChanges();
 
       expect(component.events).toEqual(mockEvents);
-      expect(component.filteredEvents).toEqual(mockEvents);
       expect(component.loading).toBeFalse();
     });
 
     it('should handle error when loading events fails', () => {
-      eventService.getEvents.and.returnValue(throwError(() => new Error('Network error')));
+      eventService.getEventsPage.and.returnValue(throwError(() => new Error('Network error')));
 
       component.loadEvents();
 
@@ -182,53 +215,26 @@ describe('EventsListComponent', () => {
     });
   });
 
-  describe('filterEvents', () => {
-    beforeEach(() => {
-      component.events = mockEvents;
-    });
-
-    it('should show all events when no category is selected', () => {
-      component.selectedCategory = null;
+  describe('loadMore', () => {
+    it('should append the next page and advance the cursor', () => {
+      component.events = [mockEvents[0]];
+      component.nextCursor = 'MQ';
+      eventService.getEventsPage.and.returnValue(of({ items: [mockEvents[1]], nextCursor: null }));
 
-      component.filterEvents();
+      component.loadMore();
 
-      expect(component.filteredEvents).toEqual(mockEvents);
-    });
-
-    it('should filter events by selected category', () => {
-      component.selectedCategory = mockCategory;
-
-      component.filterEvents();
-
-      expect(component.filteredEvents.length).toBe(2);
-      expect(component.filteredEvents[0].category?.id).toBe(mockCategory.id);
-      expect(component.filteredEvents[1].category?.id).toBe(mockCategory.id);
-    });
-
-    it('should return empty array when no events match category', () => {
-      const differentCategory: Category = { id: 999, name: 'Different Category' };
-      component.selectedCategory = differentCategory;
-
-      component.filterEvents();
-
-      expect(component.filteredEvents).toEqual([]);
+      expect(eventService.getEventsPage).toHaveBeenCalledWith('MQ', undefined);
+      expect(component.events).toEqual(mockEvents);
+      expect(component.nextCursor).toBeNull();
+      expect(component.loadingMore).toBeFalse();
     });
 
-    it('should handle events without category', () => {
-      const eventWithoutCategory: Event = {
-        id: 3,
-        type: 'event',
-        title: 'Event without category',
-        description: 'An event without category',
-        date: '2024-12-27'
-      };
-      component.events = [...mockEvents, eventWithoutCategory];
-      component.selectedCategory = mockCategory;
+    it('should do nothing on the last page', () => {
+      component.nextCursor = null;
 
-      component.filterEvents();
+      component.loadMore();
 
-      expect(component.filteredEvents.length).toBe(2);
-      expect(component.filteredEvents.every(event => event.category?.id === mockCategory.id)).toBeTrue();
+      expect(eventService.getEventsPage).not.toHaveBeenCalled();
     });
   });
 
@@ -321,7 +327,6 @@ describe('EventsListComponent', () => {
   describe('component state', () => {
     it('should initialize with correct default values', () => {
       expect(component.events).toEqual([]);
-      expect(component.filteredEvents).toEqual([]);
       expect(component.loading).toBeFalse();
       expect(component.error).toBe('');
       expect(component.selectedCategory).toBeNull();
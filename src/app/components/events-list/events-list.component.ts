@@ -1,22 +1,28 @@
-import { Component, OnInit, Input, OnChanges, SimpleChanges } from '@angular/core';
+import { Component, OnInit, Input, OnChanges, OnDestroy, SimpleChanges } from '@angular/core';
 import { Router } from '@angular/router';
+import { Subscription } from 'rxjs';
 import { EventService } from '../../services/event.service';
-import { Event } from '../../models/event';
+import { EventSummary } from '../../models/event-summary';
 import { Category } from '../../models/category';
+import { Change } from '../../models/change';
 
 @Component({
   selector: 'app-events-list',
   templateUrl: './events-list.component.html',
   styleUrls: ['./events-list.component.css']
 })
-export class EventsListComponent implements OnInit, OnChanges {
+export class EventsListComponent implements OnInit, OnChanges, OnDestroy {
   @Input() selectedCategory: Category | null = null;
   
-  events: Event[] = [];
-  filteredEvents: Event[] = [];
+  events: EventSummary[] = [];
+  nextCursor: string | null = null;
   loading = false;
+  loadingMore = false;
   error = '';
 
+  private pageSubscription?: Subscription;
+  private changeSubscription?: Subscription;
+
   constructor(
     private eventService: EventService,
     private router: Router
@@ -24,22 +30,38 @@ export class EventsListComponent implements OnInit, OnChanges {
 
   ngOnInit(): void {
     this.loadEvents();
+    this.changeSubscription = this.eventService.streamChanges().subscribe(message => {
+      if (message.type === 'reset') {
+        this.loadEvents();
+      } else {
+        this.applyChange(message.change);
+      }
+    });
+  }
+
+  ngOnDestroy(): void {
+    this.pageSubscription?.unsubscribe();
+    this.changeSubscription?.unsubscribe();
   }
 
   ngOnChanges(changes: SimpleChanges): void {
-    if (changes['selectedCategory']) {
-      this.filterEvents();
+    // The initial binding is picked up by ngOnInit
+    if (changes['selectedCategory'] && !changes['selectedCategory'].firstChange) {
+      this.loadEvents();
     }
   }
 
   loadEvents(): void {
     this.loading = true;
+    this.loadingMore = false;
     this.error = '';
-    
-    this.eventService.getEvents().subscribe({
-      next: (events) => {
-        this.events = events;
-        this.filterEvents();
+
+    // Drop any in-flight page for a previously selected category
+    this.pageSubscription?.unsubscribe();
+    this.pageSubscription = this.eventService.getEventsPage(null, this.selectedCategory?.id).subscribe({
+      next: (page) => {
+        this.events = page.items;
+        this.nextCursor = page.nextCursor || null;
         this.loading = false;
       },
       error: (error) => {
@@ -50,17 +72,57 @@ export class EventsListComponent implements OnInit, OnChanges {
     });
   }
 
-  filterEvents(): void {
-    if (!this.selectedCategory) {
-      this.filteredEvents = this.events;
-    } else {
-      this.filteredEvents = this.events.filter(event => 
-        event.category && event.category.id === this.selectedCategory!.id
-      );
+  loadMore(): void {
+    if (!this.nextCursor || this.loadingMore) {
+      return;
+    }
+    this.loadingMore = true;
+
+    this.pageSubscription = this.eventService.getEventsPage(this.nextCursor, this.selectedCategory?.id).subscribe({
+      next: (page) => {
+        this.events = [...this.events, ...page.items];
+        this.nextCursor = page.nextCursor || null;
+        this.loadingMore = false;
+      },
+      error: (error) => {
+        this.error = 'Failed to load more events. Please try again.';
+        this.loadingMore = false;
+        console.error('Error loading more events:', error);
+      }
+    });
+  }
+
+  applyChange(change: Change): void {
+    if (change.entity === 'CATEGORY') {
+      const category = change.data as Category | null;
+      if (change.action === 'UPDATED' && category) {
+        this.events = this.events.map(event =>
+          event.category?.id === change.id ? { ...event, category: { ...event.category, name: category.name } } : event);
+      }
+      return;
+    }
+
+    const index = this.events.findIndex(event => event.id === change.id);
+    if (change.action === 'DELETED') {
+      if (index >= 0) {
+        this.events = this.events.filter(event => event.id !== change.id);
+      }
+      return;
+    }
+
+    const summary = change.data as EventSummary;
+    const visible = !this.selectedCategory || summary.category?.id === this.selectedCategory.id;
+    if (index >= 0) {
+      this.events = visible
+        ? this.events.map(event => event.id === change.id ? summary : event)
+        : this.events.filter(event => event.id !== change.id);
+    } else if (visible && !this.nextCursor && !this.loading) {
+      // Pages are in id order, so a new event belongs at the end once the last page is loaded
+      this.events = [...this.events, summary];
     }
   }
 
-  onEventClick(event: Event): void {
+  onEventClick(event: EventSummary): void {
     if (event.id) {
       this.router.navigate(['/event', event.id]);
     }
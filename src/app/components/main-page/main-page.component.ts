@@ -12,12 +12,14 @@ export class MainPageComponent implements OnInit {
   showChat = false;
   categories: Category[] = [];
   selectedCategory: Category | null = null;
+  counts = new Map<number, number>();
   loading = false;
 
   constructor(private categoryService: CategoryService) {}
 
   ngOnInit(): void {
     this.loadCategories();
+    this.loadCounts();
   }
 
   loadCategories(): void {
@@ -34,6 +36,15 @@ export class MainPageComponent implements OnInit {
     });
   }
 
+  loadCounts(): void {
+    this.categoryService.getCategoryStats().subscribe({
+      next: (stats) => {
+        this.counts = new Map(stats.map(stat => [stat.categoryId, stat.eventCount]));
+      },
+      error: (error) => console.error('Error loading category counts:', error)
+    });
+  }
+
   selectCategory(category: Category | null): void {
     this.selectedCategory = category;
   }
@@ -0,0 +1,5 @@
+export interface CategoryCount {
+  categoryId: number;
+  name: string;
+  eventCount: number;
+}
@@ -3,4 +3,5 @@ export interface Category {
   name: string;
   description?: string;
   color?: string;
+  version?: number;
 } 
\ No newline at end of file
@@ -0,0 +1,12 @@
+import { Category } from './category';
+import { EventSummary } from './event-summary';
+
+export interface Change {
+  entity: 'EVENT' | 'CATEGORY';
+  action: 'CREATED' | 'UPDATED' | 'DELETED';
+  id: number;
+  data?: EventSummary | Category | null;
+}
+
+// 'reset' means changes were missed and the client should refetch
+export type StreamMessage = { type: 'change'; change: Change } | { type: 'reset' };
@@ -0,0 +1,8 @@
+export type ChatJobStatus = 'QUEUED' | 'COMPLETED' | 'FAILED';
+
+export interface ChatJob {
+  id: string;
+  status: ChatJobStatus;
+  eventId?: number | null;
+  message?: string | null;
+}
@@ -0,0 +1,6 @@
+import { Event } from './event';
+
+export interface EventBatch {
+  events: Event[];
+  missingIds: number[];
+}
@@ -0,0 +1,13 @@
+import { Category } from './category';
+
+export interface EventSummary {
+  id?: number;
+  type: string;
+  title: string;
+  date: string | null;
+  image?: string;
+  category?: Category;
+  snippet?: string;
+  unscheduled?: boolean;
+  version?: number;
+}
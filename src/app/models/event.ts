@@ -5,7 +5,9 @@ export interface Event {
   type: string;
   title: string;
   description: string;
-  date: string;
+  date: string | null; // ISO yyyy-MM-dd, null while unscheduled
   image?: string;
   category?: Category;
+  version?: number;
+  unscheduled?: boolean;
 } 
\ No newline at end of file
@@ -71,6 +71,23 @@ describe('CategoryService', () => {
     });
   });
 
+  describe('getCategoryStats', () => {
+    it('should return the event count of every category', () => {
+      const stats = [
+        { categoryId: 1, name: 'Music', eventCount: 4 },
+        { categoryId: 2, name: 'Sports', eventCount: 0 }
+      ];
+
+      service.getCategoryStats().subscribe(counts => {
+        expect(counts).toEqual(stats);
+      });
+
+      const req = httpMock.expectOne('http://localhost:8080/api/categories/stats');
+      expect(req.request.method).toBe('GET');
+      req.flush(stats);
+    });
+  });
+
   describe('getCategory', () => {
     it('should return an Observable<Category> for valid id', () => {
       service.getCategory(1).subscribe(category => {
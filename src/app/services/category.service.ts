@@ -1,7 +1,8 @@
 import { Injectable } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
+import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
 import { Category } from '../models/category';
+import { CategoryCount } from '../models/category-count';
 
 @Injectable({
   providedIn: 'root'
@@ -15,6 +16,10 @@ export class CategoryService {
     return this.http.get<Category[]>(this.apiUrl);
   }
 
+  getCategoryStats(): Observable<CategoryCount[]> {
+    return this.http.get<CategoryCount[]>(`${this.apiUrl}/stats`);
+  }
+
   getCategory(id: number): Observable<Category> {
     return this.http.get<Category>(`${this.apiUrl}/${id}`);
   }
@@ -31,7 +36,8 @@ export class CategoryService {
     return this.http.put<Category>(`${this.apiUrl}/${id}`, category);
   }
 
-  deleteCategory(id: number): Observable<void> {
-    return this.http.delete<void>(`${this.apiUrl}/${id}`);
+  deleteCategory(id: number, version?: number): Observable<void> {
+    const params = version != null ? new HttpParams().set('version', version) : undefined;
+    return this.http.delete<void>(`${this.apiUrl}/${id}`, { params });
   }
 } 
\ No newline at end of file
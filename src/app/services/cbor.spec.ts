@@ -0,0 +1,30 @@
+import { decodeCbor } from './cbor';
+
+describe('decodeCbor', () => {
+  const bytes = (...values: number[]) => new Uint8Array(values).buffer;
+
+  it('should decode an indefinite-length map as Jackson writes it', () => {
+    // {"id":7,"title":"Jazz","date":null,"tags":[1,-1]}
+    const encoded = bytes(
+      0xbf, 0x62, 0x69, 0x64, 0x07, 0x65, 0x74, 0x69, 0x74, 0x6c, 0x65, 0x64, 0x4a, 0x61, 0x7a, 0x7a,
+      0x64, 0x64, 0x61, 0x74, 0x65, 0xf6, 0x64, 0x74, 0x61, 0x67, 0x73, 0x82, 0x01, 0x20, 0xff);
+
+    expect(decodeCbor(encoded)).toEqual({ id: 7, title: 'Jazz', date: null, tags: [1, -1] });
+  });
+
+  it('should decode wide integers, floats and booleans', () => {
+    expect(decodeCbor(bytes(0x1a, 0xee, 0x6b, 0x28, 0x00))).toBe(4000000000);
+    expect(decodeCbor(bytes(0xf9, 0x3e, 0x00))).toBe(1.5);
+    expect(decodeCbor(bytes(0xfb, 0xc0, 0x04, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00))).toBe(-2.5);
+    expect(decodeCbor(bytes(0x82, 0xf5, 0xf4))).toEqual([true, false]);
+  });
+
+  it('should join chunked strings', () => {
+    // (_ "ab", "c")
+    expect(decodeCbor(bytes(0x7f, 0x62, 0x61, 0x62, 0x61, 0x63, 0xff))).toBe('abc');
+  });
+
+  it('should decode multi-byte UTF-8 text', () => {
+    expect(decodeCbor(bytes(0x63, 0xe2, 0x82, 0xac))).toBe('€');
+  });
+});
@@ -0,0 +1,175 @@
+/**
+ * Minimal CBOR (RFC 8949) decoder for the payloads the backend writes with Jackson:
+ * maps, arrays, strings, numbers, booleans and null, in definite or indefinite length.
+ * Tags are skipped and their content returned as is.
+ */
+export function decodeCbor<T>(buffer: ArrayBuffer): T {
+  const reader = new CborReader(buffer);
+  return reader.read() as T;
+}
+
+const BREAK = Symbol('break');
+
+class CborReader {
+  private readonly view: DataView;
+  private readonly bytes: Uint8Array;
+  private readonly text = new TextDecoder('utf-8');
+  private offset = 0;
+
+  constructor(buffer: ArrayBuffer) {
+    this.view = new DataView(buffer);
+    this.bytes = new Uint8Array(buffer);
+  }
+
+  read(): unknown {
+    const value = this.item();
+    if (value === BREAK) {
+      throw new Error('Unexpected CBOR break');
+    }
+    return value;
+  }
+
+  private item(): unknown {
+    const initial = this.view.getUint8(this.offset++);
+    const major = initial >> 5;
+    const info = initial & 0x1f;
+    switch (major) {
+      case 0:
+        return this.length(info);
+      case 1:
+        return -1 - this.length(info);
+      case 2:
+        return this.chunks(info, 2, length => this.bytes.slice(this.offset, this.offset += length));
+      case 3:
+        return this.chunks(info, 3, length => this.text.decode(this.bytes.subarray(this.offset, this.offset += length)));
+      case 4:
+        return this.array(info);
+      case 5:
+        return this.map(info);
+      case 6:
+        this.length(info);
+        return this.read();
+      default:
+        return this.simple(info);
+    }
+  }
+
+  private length(info: number): number {
+    if (info < 24) {
+      return info;
+    }
+    const at = this.offset;
+    switch (info) {
+      case 24:
+        this.offset += 1;
+        return this.view.getUint8(at);
+      case 25:
+        this.offset += 2;
+        return this.view.getUint16(at);
+      case 26:
+        this.offset += 4;
+        return this.view.getUint32(at);
+      case 27:
+        this.offset += 8;
+        return Number(this.view.getBigUint64(at));
+      default:
+        throw new Error(`Unsupported CBOR length encoding ${info}`);
+    }
+  }
+
+  // Strings and byte strings; indefinite ones arrive as a run of definite chunks
+  private chunks<V extends string | Uint8Array>(info: number, major: number, readChunk: (length: number) => V): V {
+    if (info !== 31) {
+      return readChunk(this.length(info));
+    }
+    const parts: V[] = [];
+    while (this.view.getUint8(this.offset) !== 0xff) {
+      const header = this.view.getUint8(this.offset++);
+      if (header >> 5 !== major) {
+        throw new Error('Malformed indefinite-length CBOR string');
+      }
+      parts.push(readChunk(this.length(header & 0x1f)));
+    }
+    this.offset++;
+    if (major === 3) {
+      return parts.join('') as V;
+    }
+    const joined = new Uint8Array(parts.reduce((total, part) => total + part.length, 0));
+    let at = 0;
+    for (const part of parts as Uint8Array[]) {
+      joined.set(part, at);
+      at += part.length;
+    }
+    return joined as V;
+  }
+
+  private array(info: number): unknown[] {
+    const items: unknown[] = [];
+    if (info === 31) {
+      for (let item = this.item(); item !== BREAK; item = this.item()) {
+        items.push(item);
+      }
+      return items;
+    }
+    const length = this.length(info);
+    for (let i = 0; i < length; i++) {
+      items.push(this.read());
+    }
+    return items;
+  }
+
+  private map(info: number): Record<string, unknown> {
+    const entries: Record<string, unknown> = {};
+    if (info === 31) {
+      for (let key = this.item(); key !== BREAK; key = this.item()) {
+        entries[String(key)] = this.read();
+      }
+      return entries;
+    }
+    const length = this.length(info);
+    for (let i = 0; i < length; i++) {
+      const key = String(this.read());
+      entries[key] = this.read();
+    }
+    return entries;
+  }
+
+  private simple(info: number): unknown {
+    const at = this.offset;
+    switch (info) {
+      case 20:
+        return false;
+      case 21:
+        return true;
+      case 22:
+      case 23:
+        return null;
+      case 25:
+        this.offset += 2;
+        return halfFloat(this.view.getUint16(at));
+      case 26:
+        this.offset += 4;
+        return this.view.getFloat32(at);
+      case 27:
+        this.offset += 8;
+        return this.view.getFloat64(at);
+      case 31:
+        return BREAK;
+      default:
+        throw new Error(`Unsupported CBOR simple value ${info}`);
+    }
+  }
+}
+
+function halfFloat(bits: number): number {
+  const sign = bits & 0x8000 ? -1 : 1;
+  const exponent = (bits >> 10) & 0x1f;
+  const fraction = bits & 0x3ff;
+  if (exponent === 0) {
+    return sign * Math.pow(2, -14) * (fraction / 1024);
+  }
+  if (exponent === 0x1f) {
+    return fraction ? NaN : sign * Infinity;
+  }
+  return sign * Math.pow(2, exponent - 15) * (1 + fraction / 1024);
+}
@@ -1,6 +1,6 @@
 import { TestBed } from '@angular/core/testing';
 import { HttpClientTestingModule, HttpTestingController } from '@angular/common/http/testing';
-import { EventService } from './event.service';
+import { BINARY_PAYLOADS, EventService } from './event.service';
 import { Event } from '../models/event';
 import { Category } from '../models/category';
 
@@ -40,41 +40,68 @@ describe('EventService', () => {
     expect(service).toBeTruthy();
   });
 
-  describe('getEvents', () => {
-    it('should return an Observable<Event[]>', () => {
-      const mockEvents: Event[] = [mockEvent];
+  describe('getEventsPage', () => {
+    it('should handle error response', () => {
+      service.getEventsPage().subscribe({
+        next: () => fail('should have failed with 503 error'),
+        error: (error) => {
+          expect(error.status).toBe(503);
+        }
+      });
 
-      service.getEvents().subscribe(events => {
-        expect(events).toEqual(mockEvents);
-        expect(events.length).toBe(1);
-        expect(events[0].title).toBe('Test Concert');
+      const req = httpMock.expectOne('http://localhost:8080/api/events/page?size=20');
+      req.flush('Service Unavailable', { status: 503, statusText: 'Service Unavailable' });
+    });
+
+    it('should request the first page without a cursor', () => {
+      service.getEventsPage().subscribe(page => {
+        expect(page.items).toEqual([mockEvent]);
+        expect(page.nextCursor).toBe('MQ');
       });
 
-      const req = httpMock.expectOne('http://localhost:8080/api/events');
+      const req = httpMock.expectOne('http://localhost:8080/api/events/page?size=20');
       expect(req.request.method).toBe('GET');
-      req.flush(mockEvents);
+      req.flush({ items: [mockEvent], nextCursor: 'MQ' });
     });
 
-    it('should handle empty response', () => {
-      service.getEvents().subscribe(events => {
-        expect(events).toEqual([]);
+    it('should pass the cursor for later pages', () => {
+      service.getEventsPage('MQ', null, 10).subscribe(page => {
+        expect(page.items).toEqual([]);
       });
 
-      const req = httpMock.expectOne('http://localhost:8080/api/events');
-      req.flush([]);
+      const req = httpMock.expectOne('http://localhost:8080/api/events/page?size=10&cursor=MQ');
+      req.flush({ items: [], nextCursor: null });
     });
 
-    it('should handle error response', () => {
-      service.getEvents().subscribe({
-        next: () => fail('should have failed with 404 error'),
-        error: (error) => {
-          expect(error.status).toBe(404);
-          expect(error.statusText).toBe('Not Found');
-        }
+    it('should filter by category on the server', () => {
+      service.getEventsPage(null, 1).subscribe(page => {
+        expect(page.items).toEqual([mockEvent]);
       });
 
-      const req = httpMock.expectOne('http://localhost:8080/api/events');
-      req.flush('Not Found', { status: 404, statusText: 'Not Found' });
+      const req = httpMock.expectOne('http://localhost:8080/api/events/page?size=20&categoryId=1');
+      req.flush({ items: [mockEvent], nextCursor: null });
+    });
+  });
+
+  describe('date queries', () => {
+    it('should pass the date range as query parameters', () => {
+      service.getEventsBetween('2024-12-01', '2024-12-31').subscribe(page => {
+        expect(page.items.length).toBe(1);
+        expect(page.nextCursor).toBe('MjAyNC0xMi0yNSwx');
+      });
+
+      const req = httpMock.expectOne('http://localhost:8080/api/events/page?size=20&from=2024-12-01&to=2024-12-31');
+      expect(req.request.method).toBe('GET');
+      req.flush({ items: [mockEvent], nextCursor: 'MjAyNC0xMi0yNSwx' });
+    });
+
+    it('should request upcoming events with a limit', () => {
+      service.getUpcomingEvents(5).subscribe(events => {
+        expect(events.length).toBe(1);
+      });
+
+      const req = httpMock.expectOne('http://localhost:8080/api/events/upcoming?limit=5');
+      req.flush([mockEvent]);
     });
   });
 
@@ -104,6 +131,20 @@ describe('EventService', () => {
     });
   });
 
+  describe('getEventsByIds', () => {
+    it('should post the ids and return events with missing ids', () => {
+      service.getEventsByIds([1, 7]).subscribe(batch => {
+        expect(batch.events).toEqual([mockEvent]);
+        expect(batch.missingIds).toEqual([7]);
+      });
+
+      const req = httpMock.expectOne('http://localhost:8080/api/events/batch-get');
+      expect(req.request.method).toBe('POST');
+      expect(req.request.body).toEqual([1, 7]);
+      req.flush({ events: [mockEvent], missingIds: [7] });
+    });
+  });
+
   describe('createEvent', () => {
     it('should create a new event and return Observable<Event>', () => {
       const newEvent: Event = {
@@ -210,17 +251,18 @@ describe('EventService', () => {
   });
 
   describe('sendChatMessage', () => {
-    it('should send a chat message and return Observable<void>', () => {
+    it('should queue a chat message and return the job', () => {
       const message = 'Hello, this is a test message';
 
-      service.sendChatMessage(message).subscribe(response => {
-        expect(response).toBeUndefined();
+      service.sendChatMessage(message).subscribe(job => {
+        expect(job.id).toBe('job-1');
+        expect(job.status).toBe('QUEUED');
       });
 
-      const req = httpMock.expectOne('http://localhost:8080/api/events/chat');
+      const req = httpMock.expectOne('http://localhost:8080/api/chat');
       expect(req.request.method).toBe('POST');
       expect(req.request.body).toBe(message);
-      req.flush(null);
+      req.flush({ id: 'job-1', status: 'QUEUED' }, { status: 202, statusText: 'Accepted' });
     });
 
     it('should handle error when sending chat message fails', () => {
@@ -233,8 +275,53 @@ describe('EventService', () => {
         }
       });
 
-      const req = httpMock.expectOne('http://localhost:8080/api/events/chat');
+      const req = httpMock.expectOne('http://localhost:8080/api/chat');
       req.flush('Internal Server Error', { status: 500, statusText: 'Internal Server Error' });
     });
+
+    it('should fetch the status of a chat job', () => {
+      service.getChatJob('job-1').subscribe(job => {
+        expect(job.status).toBe('COMPLETED');
+        expect(job.eventId).toBe(42);
+      });
+
+      const req = httpMock.expectOne('http://localhost:8080/api/chat/jobs/job-1');
+      expect(req.request.method).toBe('GET');
+      req.flush({ id: 'job-1', status: 'COMPLETED', eventId: 42, message: 'Event created' });
+    });
+  });
+
+  describe('binary payloads', () => {
+    beforeEach(() => {
+      TestBed.resetTestingModule();
+      TestBed.configureTestingModule({
+        imports: [HttpClientTestingModule],
+        providers: [EventService, { provide: BINARY_PAYLOADS, useValue: true }]
+      });
+      service = TestBed.inject(EventService);
+      httpMock = TestBed.inject(HttpTestingController);
+    });
+
+    it('should request CBOR and decode it', () => {
+      service.getEvent(7).subscribe(event => {
+        expect(event).toEqual({ id: 7, title: 'Jazz', date: null } as unknown as Event);
+      });
+
+      const req = httpMock.expectOne('http://localhost:8080/api/events/7');
+      expect(req.request.headers.get('Accept')).toBe('application/cbor');
+      expect(req.request.responseType).toBe('arraybuffer');
+      // {"id":7,"title":"Jazz","date":null}
+      req.flush(new Uint8Array([0xbf, 0x62, 0x69, 0x64, 0x07, 0x65, 0x74, 0x69, 0x74, 0x6c, 0x65,
+        0x64, 0x4a, 0x61, 0x7a, 0x7a, 0x64, 0x64, 0x61, 0x74, 0x65, 0xf6, 0xff]).buffer);
+    });
+
+    it('should keep sending writes as JSON', () => {
+      service.createEvent(mockEvent).subscribe();
+
+      const req = httpMock.expectOne('http://localhost:8080/api/events');
+      expect(req.request.headers.has('Accept')).toBeFalse();
+      expect(req.request.body).toEqual(mockEvent);
+      req.flush(mockEvent);
+    });
   });
 }); 
\ No newline at end of file
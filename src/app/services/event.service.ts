@@ -1,22 +1,80 @@
-import { Injectable } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
-import { Observable } from 'rxjs';
+import { Inject, Injectable, InjectionToken } from '@angular/core';
+import { HttpClient, HttpHeaders, HttpParams } from '@angular/common/http';
+import { Observable, map } from 'rxjs';
 import { Event } from '../models/event';
+import { EventBatch } from '../models/event-batch';
+import { EventSummary } from '../models/event-summary';
+import { CursorPage } from '../models/cursor-page';
+import { ChatJob } from '../models/chat-job';
+import { StreamMessage } from '../models/change';
+import { decodeCbor } from './cbor';
+
+/**
+ * Set to true (e.g. `{ provide: BINARY_PAYLOADS, useValue: true }`) to fetch events as
+ * CBOR instead of JSON. Writes stay JSON.
+ */
+export const BINARY_PAYLOADS = new InjectionToken<boolean>('BINARY_PAYLOADS', {
+  providedIn: 'root',
+  factory: () => false
+});
 
 @Injectable({
   providedIn: 'root'
 })
 export class EventService {
   private apiUrl = 'http://localhost:8080/api/events';
+  private chatUrl = 'http://localhost:8080/api/chat';
+
+  constructor(private http: HttpClient, @Inject(BINARY_PAYLOADS) private binary: boolean) { }
+
+  getEventsPage(cursor?: string | null, categoryId?: number | null, size = 20): Observable<CursorPage<EventSummary>> {
+    let params = new HttpParams().set('size', size);
+    if (categoryId != null) {
+      params = params.set('categoryId', categoryId);
+    }
+    if (cursor) {
+      params = params.set('cursor', cursor);
+    }
+    return this.read<CursorPage<EventSummary>>(`${this.apiUrl}/page`, params);
+  }
 
-  constructor(private http: HttpClient) { }
+  // Pages in date order; at least one of from and to is required
+  getEventsBetween(from?: string, to?: string, cursor?: string | null, size = 20): Observable<CursorPage<EventSummary>> {
+    let params = new HttpParams().set('size', size);
+    if (from) {
+      params = params.set('from', from);
+    }
+    if (to) {
+      params = params.set('to', to);
+    }
+    if (cursor) {
+      params = params.set('cursor', cursor);
+    }
+    return this.read<CursorPage<EventSummary>>(`${this.apiUrl}/page`, params);
+  }
+
+  getUpcomingEvents(limit = 20): Observable<EventSummary[]> {
+    return this.read<EventSummary[]>(`${this.apiUrl}/upcoming`, new HttpParams().set('limit', limit));
+  }
 
-  getEvents(): Observable<Event[]> {
-    return this.http.get<Event[]>(this.apiUrl);
+  // EventSource reconnects on its own and resends the last event id, so missed changes are replayed
+  streamChanges(): Observable<StreamMessage> {
+    return new Observable<StreamMessage>(subscriber => {
+      const source = new EventSource(`${this.apiUrl}/stream`);
+      source.addEventListener('change', message =>
+        subscriber.next({ type: 'change', change: JSON.parse((message as MessageEvent).data) }));
+      source.addEventListener('reset', () => subscriber.next({ type: 'reset' }));
+      return () => source.close();
+    });
   }
 
   getEvent(id: number): Observable<Event> {
-    return this.http.get<Event>(`${this.apiUrl}/${id}`);
+    return this.read<Event>(`${this.apiUrl}/${id}`);
+  }
+
+  // One request for many ids; events come back in the order asked, unknown ids in missingIds
+  getEventsByIds(ids: number[]): Observable<EventBatch> {
+    return this.http.post<EventBatch>(`${this.apiUrl}/batch-get`, ids);
   }
 
   createEvent(event: Event): Observable<Event> {
@@ -27,11 +85,25 @@ export class EventService {
     return this.http.put<Event>(`${this.apiUrl}/${id}`, event);
   }
 
-  deleteEvent(id: number): Observable<void> {
-    return this.http.delete<void>(`${this.apiUrl}/${id}`);
+  deleteEvent(id: number, version?: number): Observable<void> {
+    const params = version != null ? new HttpParams().set('version', version) : undefined;
+    return this.http.delete<void>(`${this.apiUrl}/${id}`, { params });
+  }
+
+  sendChatMessage(message: string): Observable<ChatJob> {
+    return this.http.post<ChatJob>(this.chatUrl, message);
+  }
+
+  getChatJob(id: string): Observable<ChatJob> {
+    return this.http.get<ChatJob>(`${this.chatUrl}/jobs/${id}`);
   }
 
-  sendChatMessage(message: string): Observable<void> {
-    return this.http.post<void>(`${this.apiUrl}/chat`, message);
+  private read<T>(url: string, params?: HttpParams): Observable<T> {
+    if (!this.binary) {
+      return this.http.get<T>(url, { params });
+    }
+    const headers = new HttpHeaders({ Accept: 'application/cbor' });
+    return this.http.get(url, { params, headers, responseType: 'arraybuffer' })
+      .pipe(map(body => decodeCbor<T>(body)));
   }
 } 
\ No newline at end of file
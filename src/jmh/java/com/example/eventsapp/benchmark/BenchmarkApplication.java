@@ -0,0 +1,63 @@
+package com.example.eventsapp.benchmark;
+
+import com.example.eventsapp.App;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Boots the application without a web server against a private in-memory H2
+ * database and seeds it with the requested number of events, or against the
+ * file-backed database of the prod profile.
+ */
+final class BenchmarkApplication {
+    static final long FIRST_SEEDED_ID = 1000;
+    static final int DESCRIPTION_REPEATS = 20; // ~560 characters per description
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(int events) {
+        ConfigurableApplicationContext context = builder()
+                .properties("spring.datasource.url=jdbc:h2:mem:bench-" + events + ";DB_CLOSE_DELAY=-1")
+                .run();
+        seed(context.getBean(JdbcTemplate.class), events);
+        return context;
+    }
+
+    // Opens (creating and migrating on first use) the prod datastore under the given path
+    static ConfigurableApplicationContext startDurable(Path path, int writeDelayMs) {
+        return builder()
+                .profiles("prod")
+                .properties(
+                        "app.datastore.path=" + path,
+                        "app.datastore.write-delay-ms=" + writeDelayMs)
+                .run();
+    }
+
+    private static SpringApplicationBuilder builder() {
+        return new SpringApplicationBuilder(App.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN");
+    }
+
+    static long randomSeededId(int events) {
+        return FIRST_SEEDED_ID + 1 + ThreadLocalRandom.current().nextInt(events);
+    }
+
+    // One set-based INSERT; going through JPA would dominate setup time at a million rows
+    static void seed(JdbcTemplate jdbc, int events) {
+        jdbc.update("INSERT INTO event (id, type, title, description, date, image, category_id, version) "
+                + "SELECT X + " + FIRST_SEEDED_ID + ", 'event', CONCAT('Benchmark event ', X), "
+                + "REPEAT('Lorem ipsum dolor sit amet. ', " + DESCRIPTION_REPEATS + "), DATE '2025-01-01', "
+                + "NULL, MOD(X, 9) + 1, 0 FROM SYSTEM_RANGE(1, " + events + ")");
+        // Keep pooled id allocation clear of the seeded range
+        jdbc.execute("ALTER SEQUENCE event_seq RESTART WITH " + (FIRST_SEEDED_ID + events + 100));
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.eventsapp.benchmark;
+
+import com.example.eventsapp.model.Category;
+import com.example.eventsapp.service.CategoryService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Category lookups do not depend on the number of events, so this runs against the
+ * smallest dataset only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CategoryServiceBenchmark {
+    private static final String[] NAMES = {
+            "travel", "entertainment", "sports", "education", "food", "music", "art", "business", "technology"
+    };
+
+    private ConfigurableApplicationContext context;
+    private CategoryService categoryService;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(1000);
+        categoryService = context.getBean(CategoryService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Category getCategoryByName() {
+        next = (next + 1) % NAMES.length;
+        return categoryService.getCategoryByName(NAMES[next]);
+    }
+}
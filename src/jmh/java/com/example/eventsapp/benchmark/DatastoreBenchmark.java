@@ -0,0 +1,193 @@
+package com.example.eventsapp.benchmark;
+
+import com.example.eventsapp.dto.EventImportRow;
+import com.example.eventsapp.dto.ImportResult;
+import com.example.eventsapp.model.Category;
+import com.example.eventsapp.model.Event;
+import com.example.eventsapp.service.EventImportService;
+import com.example.eventsapp.service.EventService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The in-memory database against the file-backed one of the prod profile: write
+ * throughput, single events and import batches, over a large event table; and
+ * recovery, the time to open the file again after the process died without closing
+ * it, for H2 alone and for the application up to ready.
+ *
+ * <pre>
+ * mvn -Pbenchmark compile exec:exec -Djmh.args="DatastoreBenchmark -p events=100000 -p writeDelayMs=0,100,500"
+ * </pre>
+ */
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DatastoreBenchmark {
+    private static final int IMPORT_BATCH = 1000;
+
+    @State(Scope.Benchmark)
+    public static class Writes {
+        @Param({"mem", "file"})
+        public String store;
+
+        @Param({"100000", "1000000"})
+        public int events;
+
+        @Param({"100"})
+        public int writeDelayMs;
+
+        private Path dir;
+        private ConfigurableApplicationContext context;
+        private EventService eventService;
+        private EventImportService importService;
+        private List<EventImportRow> batch;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            if ("file".equals(store)) {
+                dir = Files.createTempDirectory("datastore-bench");
+                context = BenchmarkApplication.startDurable(dir.resolve("events"), writeDelayMs);
+                BenchmarkApplication.seed(context.getBean(JdbcTemplate.class), events);
+            } else {
+                context = BenchmarkApplication.start(events);
+            }
+            eventService = context.getBean(EventService.class);
+            importService = context.getBean(EventImportService.class);
+            batch = importRows(IMPORT_BATCH);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            context.close();
+            if (dir != null) {
+                FileSystemUtils.deleteRecursively(dir);
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Recovery {
+        @Param({"100000", "1000000"})
+        public int events;
+
+        private Path dir;
+        private Path database;
+        private ConfigurableApplicationContext context;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            dir = Files.createTempDirectory("datastore-recovery");
+            database = dir.resolve("events");
+            try (ConfigurableApplicationContext seeding = BenchmarkApplication.startDurable(database, 100)) {
+                BenchmarkApplication.seed(seeding.getBean(JdbcTemplate.class), events);
+            }
+        }
+
+        // Leaves uncommitted and unwritten changes behind and stops H2 without closing the store
+        @Setup(Level.Iteration)
+        public void crash() throws SQLException {
+            try (Connection connection = open(database); Statement statement = connection.createStatement()) {
+                statement.execute("UPDATE event SET version = version + 1 WHERE MOD(id, 100) = 0");
+                connection.setAutoCommit(false);
+                statement.execute("UPDATE event SET version = version + 1 WHERE MOD(id, 100) = 1");
+                statement.execute("SHUTDOWN IMMEDIATELY");
+            } catch (SQLException expected) {
+                // The connection is gone once the database has been shut down
+            }
+        }
+
+        @TearDown(Level.Iteration)
+        public void closeApplication() {
+            if (context != null) {
+                context.close();
+                context = null;
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            FileSystemUtils.deleteRecursively(dir);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public Event createEvent(Writes state) {
+        Event event = new Event();
+        event.setType("concert");
+        event.setTitle("Benchmark concert");
+        event.setDescription("Created by the benchmark");
+        event.setDate(LocalDate.of(2025, 6, 1));
+        Category category = new Category();
+        category.setId(1L);
+        event.setCategory(category);
+        return state.eventService.createEvent(event);
+    }
+
+    // Rows per second is IMPORT_BATCH times the reported rate
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public ImportResult importBatch(Writes state) {
+        return state.importService.importEvents(state.batch, EventImportService.DEFAULT_BATCH_SIZE);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5)
+    public long reopenStore(Recovery state) throws SQLException {
+        try (Connection connection = open(state.database); Statement statement = connection.createStatement();
+             ResultSet count = statement.executeQuery("SELECT COUNT(*) FROM event")) {
+            count.next();
+            return count.getLong(1);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5)
+    public ConfigurableApplicationContext restartApplication(Recovery state) {
+        state.context = BenchmarkApplication.startDurable(state.database, 100);
+        return state.context;
+    }
+
+    // Credentials from application.properties
+    private static Connection open(Path database) throws SQLException {
+        return DriverManager.getConnection("jdbc:h2:file:" + database, "admin", "password");
+    }
+
+    private static List<EventImportRow> importRows(int count) {
+        List<EventImportRow> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            EventImportRow row = new EventImportRow();
+            row.setType("event");
+            row.setTitle("Imported event " + i);
+            row.setDescription("Lorem ipsum dolor sit amet. ".repeat(BenchmarkApplication.DESCRIPTION_REPEATS));
+            row.setDate("2025-01-01");
+            row.setCategory("travel");
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.eventsapp.benchmark;
+
+import com.example.eventsapp.model.Category;
+import com.example.eventsapp.model.Event;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Jackson serialization of event lists as the controllers return them, using the
+ * same mapper defaults Spring Boot configures, in each negotiable format. The bytes
+ * each format puts on the wire, raw and gzipped, are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventSerializationBenchmark {
+
+    @Param({"100", "1000"})
+    public int events;
+
+    // The description column holds up to 20000 characters
+    @Param({"2000", "20000"})
+    public int descriptionLength;
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private static final String[] WORDS = ("join us for a day of live music food and art in the heart of the city "
+            + "tickets include entry to every stage workshop and tasting bring friends family and an appetite "
+            + "doors open at nine with talks from local makers chefs and performers until late evening").split(" ");
+
+    private ObjectMapper objectMapper;
+    private List<Event> payload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS); // as Spring Boot does
+        if (format.equals("cbor")) {
+            builder.factory(new CBORFactory());
+        } else if (format.equals("smile")) {
+            builder.factory(new SmileFactory());
+        }
+        objectMapper = builder.build();
+        Category category = new Category();
+        category.setId(6L);
+        category.setName("music");
+        payload = new ArrayList<>(events);
+        for (int i = 0; i < events; i++) {
+            Event event = new Event();
+            event.setId((long) i);
+            event.setType("concert");
+            event.setTitle("Benchmark event " + i);
+            event.setDescription(description(i));
+            event.setDate(LocalDate.of(2025, 1, 1));
+            event.setImage("https://images.example.com/" + i + ".jpg");
+            event.setCategory(category);
+            payload.add(event);
+        }
+        System.out.printf("%n%s, %d events of %d chars: %d bytes, %d gzipped%n", format, events,
+                descriptionLength, writeEventList().length, writeEventListGzipped().length);
+    }
+
+    // Words drawn per event, so gzip sees text about as repetitive as real descriptions
+    // rather than one string repeated across the list
+    private String description(int seed) {
+        Random random = new Random(seed);
+        StringBuilder description = new StringBuilder(descriptionLength + 16);
+        while (description.length() < descriptionLength) {
+            description.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return description.substring(0, descriptionLength);
+    }
+
+    @Benchmark
+    public byte[] writeEventList() throws IOException {
+        return objectMapper.writeValueAsBytes(payload);
+    }
+
+    // What a client sending Accept-Encoding: gzip costs the server
+    @Benchmark
+    public byte[] writeEventListGzipped() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, payload);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.eventsapp.benchmark;
+
+import com.example.eventsapp.dto.CursorPage;
+import com.example.eventsapp.dto.EventSummary;
+import com.example.eventsapp.model.Category;
+import com.example.eventsapp.model.Event;
+import com.example.eventsapp.service.EventService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EventServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int events;
+
+    private ConfigurableApplicationContext context;
+    private EventService eventService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(events);
+        eventService = context.getBean(EventService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CursorPage<EventSummary> getEventsPage() {
+        return eventService.getEventsPage(null, null, EventService.MAX_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Event getEvent() {
+        return eventService.getEvent(BenchmarkApplication.randomSeededId(events));
+    }
+
+    @Benchmark
+    public Event createEvent() {
+        Event event = new Event();
+        event.setType("concert");
+        event.setTitle("Benchmark concert");
+        event.setDescription("Created by the benchmark");
+        event.setDate(LocalDate.of(2025, 6, 1));
+        Category category = new Category();
+        category.setId(1L);
+        event.setCategory(category);
+        return eventService.createEvent(event);
+    }
+}
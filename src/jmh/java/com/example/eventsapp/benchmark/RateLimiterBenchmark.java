@@ -0,0 +1,48 @@
+package com.example.eventsapp.benchmark;
+
+import com.example.eventsapp.service.RateLimiter;
+import org.openjdk.jmh.annotations.*;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of admitting one write, with many clients and a thread per core contending on
+ * the bucket map. The rate is high enough that every request is admitted, which is the
+ * common path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(Threads.MAX)
+public class RateLimiterBenchmark {
+
+    @Param({"1000", "100000"})
+    public int clients;
+
+    private RateLimiter rateLimiter;
+    private String[] keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rateLimiter = new RateLimiter(true, 1e9, 1_000_000, Duration.ofMinutes(10), clients);
+        keys = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            keys[i] = "ip:10.0." + (i >> 8) + "." + (i & 0xff);
+        }
+    }
+
+    @Benchmark
+    public void acquire() {
+        rateLimiter.acquire(keys[ThreadLocalRandom.current().nextInt(clients)]);
+    }
+
+    // One client hammering its own bucket: every thread CASes the same AtomicLong
+    @Benchmark
+    public void acquireSameClient() {
+        rateLimiter.acquire(keys[0]);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.eventsapp.config;
+
+import com.example.eventsapp.controller.RateLimitInterceptor;
+import com.example.eventsapp.service.RateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Set;
+
+@Configuration
+public class RateLimitConfig implements WebMvcConfigurer {
+    private final RateLimiter rateLimiter;
+    private final Set<String> apiKeys;
+
+    public RateLimitConfig(RateLimiter rateLimiter, @Value("${app.rate-limit.api-keys:}") Set<String> apiKeys) {
+        this.rateLimiter = rateLimiter;
+        this.apiKeys = apiKeys;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RateLimitInterceptor(rateLimiter, apiKeys)).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.eventsapp.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * In-process Caffeine caches behind Hibernate's second-level cache, one region per
+ * cached entity. Entries are evicted by size and expire a fixed time after they were
+ * written, so an entry changed outside Hibernate is stale for at most the TTL.
+ * Hibernate invalidates entries itself on entity writes. A JPQL bulk update or delete
+ * would evict the entity's whole region, so EventRepository's single-event writes are
+ * native SQL and EventService evicts just the event they changed. Per-region hit, miss
+ * and put counts are published as {@code hibernate.second.level.cache.*} metrics.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+    public static final String EVENTS = "events";
+    public static final String CATEGORIES = "categories";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${app.cache.events.max-size:10000}") long eventsMaxSize,
+            @Value("${app.cache.events.ttl:10m}") Duration eventsTtl,
+            @Value("${app.cache.categories.max-size:1000}") long categoriesMaxSize,
+            @Value("${app.cache.categories.ttl:30m}") Duration categoriesTtl) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // A manager of its own, so application contexts sharing a JVM (as tests do) don't share regions
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("eventsapp:" + UUID.randomUUID()), getClass().getClassLoader());
+        cacheManager.createCache(EVENTS, region(eventsMaxSize, eventsTtl));
+        cacheManager.createCache(CATEGORIES, region(categoriesMaxSize, categoriesTtl));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCache(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maxSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.eventsapp.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Logs where boot time went once the application accepts traffic: JVM uptime and the
+ * startup steps recorded by {@link BufferingApplicationStartup} (installed by
+ * {@code App.main}), ranked by self time, i.e. excluding nested steps, so a bean is not
+ * charged for the dependencies it pulled in. The full timeline is served at
+ * {@code /actuator/startup}.
+ *
+ * <p>With {@code app.startup.exit=true} the application shuts down right after, which
+ * is how the H2 snapshot and the AppCDS archive are built.
+ */
+@Component
+public class StartupReport {
+    private static final Logger log = LoggerFactory.getLogger(StartupReport.class);
+    static final int TOP_STEPS = 15;
+    // Tags that say which bean, repository or listener a step was about
+    private static final Set<String> LABEL_TAGS = Set.of("beanName", "repository", "listener", "event");
+
+    private final ApplicationStartup applicationStartup;
+    private final ConfigurableApplicationContext context;
+    private final boolean exitWhenReady;
+
+    public StartupReport(ApplicationStartup applicationStartup, ConfigurableApplicationContext context,
+                         @Value("${app.startup.exit:false}") boolean exitWhenReady) {
+        this.applicationStartup = applicationStartup;
+        this.context = context;
+        this.exitWhenReady = exitWhenReady;
+    }
+
+    // Readiness is published after every ApplicationReadyEvent listener (the warm-ups) has run
+    @EventListener
+    public void onReadiness(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() != ReadinessState.ACCEPTING_TRAFFIC) {
+            return;
+        }
+        if (applicationStartup instanceof BufferingApplicationStartup) {
+            StartupTimeline timeline = ((BufferingApplicationStartup) applicationStartup).getBufferedTimeline();
+            log.info("Ready after {} ms of JVM uptime\n{}", ManagementFactory.getRuntimeMXBean().getUptime(),
+                    summarize(timeline.getEvents(), TOP_STEPS));
+        }
+        if (exitWhenReady) {
+            log.info("app.startup.exit is set; shutting down");
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    static String summarize(List<StartupTimeline.TimelineEvent> events, int top) {
+        // Self time: what a step took minus the steps started inside it
+        Map<Long, Duration> children = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            Long parent = event.getStartupStep().getParentId();
+            if (parent != null) {
+                children.merge(parent, event.getDuration(), Duration::plus);
+            }
+        }
+        List<Map.Entry<String, Duration>> steps = new ArrayList<>();
+        Map<String, Duration> byType = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            StartupStep step = event.getStartupStep();
+            Duration self = event.getDuration().minus(children.getOrDefault(step.getId(), Duration.ZERO));
+            steps.add(Map.entry(label(step), self));
+            byType.merge(step.getName(), self, Duration::plus);
+        }
+
+        StringBuilder report = new StringBuilder("Slowest startup steps (self time):\n");
+        append(report, steps, top);
+        report.append("Self time per step type:\n");
+        append(report, new ArrayList<>(byType.entrySet()), byType.size());
+        return report.toString();
+    }
+
+    private static void append(StringBuilder report, List<Map.Entry<String, Duration>> rows, int limit) {
+        rows.sort(Map.Entry.<String, Duration>comparingByValue().reversed());
+        for (Map.Entry<String, Duration> row : rows.subList(0, Math.min(limit, rows.size()))) {
+            report.append(String.format("  %6d ms  %s%n", row.getValue().toMillis(), row.getKey()));
+        }
+    }
+
+    private static String label(StartupStep step) {
+        StringBuilder label = new StringBuilder(step.getName());
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (LABEL_TAGS.contains(tag.getKey())) {
+                label.append(' ').append(tag.getValue());
+            }
+        }
+        return label.toString();
+    }
+}
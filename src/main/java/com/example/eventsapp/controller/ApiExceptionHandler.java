@@ -0,0 +1,59 @@
+package com.example.eventsapp.controller;
+
+import com.example.eventsapp.dto.ApiError;
+import com.example.eventsapp.exception.NotFoundException;
+import com.example.eventsapp.exception.QueueFullException;
+import com.example.eventsapp.exception.RateLimitedException;
+import com.example.eventsapp.exception.VersionConflictException;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<ApiError> handleNotFound(NotFoundException e) {
+        return error(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<ApiError> handleVersionConflict(VersionConflictException e) {
+        return error(HttpStatus.CONFLICT, e.getMessage());
+    }
+
+    // e.g. deleting a category that events still reference
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiError> handleIntegrityViolation(DataIntegrityViolationException e) {
+        return error(HttpStatus.CONFLICT, NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+    }
+
+    @ExceptionHandler(QueueFullException.class)
+    public ResponseEntity<ApiError> handleQueueFull(QueueFullException e) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ApiError(status.value(), status.getReasonPhrase(), e.getMessage()));
+    }
+
+    @ExceptionHandler(RateLimitedException.class)
+    public ResponseEntity<ApiError> handleRateLimited(RateLimitedException e) {
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new ApiError(status.value(), status.getReasonPhrase(), e.getMessage()));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ApiError> handleBadRequest(IllegalArgumentException e) {
+        return error(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    private static ResponseEntity<ApiError> error(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(new ApiError(status.value(), status.getReasonPhrase(), message));
+    }
+}
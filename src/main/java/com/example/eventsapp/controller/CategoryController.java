@@ -1,48 +1,89 @@
 package com.example.eventsapp.controller;
 
+import com.example.eventsapp.dto.CategoryCount;
+import com.example.eventsapp.dto.ReconcileResult;
+import com.example.eventsapp.dto.RegistryStats;
 import com.example.eventsapp.model.Category;
+import com.example.eventsapp.service.Bulkheads;
+import com.example.eventsapp.service.CategoryEventCounts;
 import com.example.eventsapp.service.CategoryService;
+import com.example.eventsapp.service.DataVersion;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/categories")
 @CrossOrigin(origins = "*")
 public class CategoryController {
     private final CategoryService service;
+    private final DataVersion dataVersion;
+    private final Bulkheads bulkheads;
+    private final CategoryEventCounts eventCounts;
 
-    public CategoryController(CategoryService service) {
+    public CategoryController(CategoryService service, DataVersion dataVersion, Bulkheads bulkheads,
+                              CategoryEventCounts eventCounts) {
         this.service = service;
+        this.dataVersion = dataVersion;
+        this.bulkheads = bulkheads;
+        this.eventCounts = eventCounts;
     }
 
+    // Reads come from the in-memory registry and stay on the request thread
     @GetMapping
-    public List<Category> getAllCategories() {
+    public List<Category> getAllCategories(ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, dataVersion.categories())) {
+            return null;
+        }
         return service.getAllCategories();
     }
 
+    @GetMapping("/registry")
+    public RegistryStats getRegistryStats() {
+        return service.getRegistryStats();
+    }
+
+    @GetMapping("/stats")
+    public List<CategoryCount> getCategoryStats() {
+        return eventCounts.getStats();
+    }
+
+    // Full recount, so it queues with the list reads
+    @PostMapping("/stats/reconcile")
+    public CompletableFuture<ReconcileResult> reconcileCategoryStats() {
+        return bulkheads.listReads().submit(eventCounts::reconcile);
+    }
+
     @GetMapping("/{id}")
-    public Category getCategory(@PathVariable Long id) {
+    public Category getCategory(@PathVariable Long id, ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, dataVersion.categories())) {
+            return null;
+        }
         return service.getCategory(id);
     }
 
     @GetMapping("/name/{name}")
-    public Category getCategoryByName(@PathVariable String name) {
+    public Category getCategoryByName(@PathVariable String name, ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, dataVersion.categories())) {
+            return null;
+        }
         return service.getCategoryByName(name);
     }
 
     @PostMapping
-    public Category createCategory(@RequestBody Category category) {
-        return service.createCategory(category);
+    public CompletableFuture<Category> createCategory(@RequestBody Category category) {
+        return bulkheads.writes().submit(() -> service.createCategory(category));
     }
 
     @PutMapping("/{id}")
-    public Category updateCategory(@PathVariable Long id, @RequestBody Category category) {
+    public CompletableFuture<Category> updateCategory(@PathVariable Long id, @RequestBody Category category) {
         category.setId(id);
-        return service.updateCategory(category);
+        return bulkheads.writes().submit(() -> service.updateCategory(category));
     }
 
     @DeleteMapping("/{id}")
-    public void deleteCategory(@PathVariable Long id) {
-        service.deleteCategory(id);
+    public CompletableFuture<Void> deleteCategory(@PathVariable Long id, @RequestParam(required = false) Long version) {
+        return bulkheads.writes().run(() -> service.deleteCategory(id, version));
     }
 } 
\ No newline at end of file
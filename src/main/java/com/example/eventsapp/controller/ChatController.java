@@ -1,35 +1,37 @@
 package com.example.eventsapp.controller;
 
-import com.example.eventsapp.model.Event;
-import com.example.eventsapp.service.EventService;
+import com.example.eventsapp.dto.ChatJob;
+import com.example.eventsapp.service.ChatCommandQueue;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+
 @RestController
 @RequestMapping("/api/chat")
 @CrossOrigin(origins = "*")
 public class ChatController {
-    private final EventService eventService;
+    private final ChatCommandQueue chatQueue;
 
-    public ChatController(EventService eventService) {
-        this.eventService = eventService;
+    public ChatController(ChatCommandQueue chatQueue) {
+        this.chatQueue = chatQueue;
     }
 
+    // Queued, not processed: poll the job for the outcome
     @PostMapping
-    public void handleChat(@RequestBody String message) {
-        // Simple logic: if message contains "add", add a new event
-        if (message.toLowerCase().contains("add")) {
-            Event event = new Event();
-            event.setType("custom");
-            event.setTitle("User Requested Event");
-            event.setDescription(message);
-            event.setDate("TBD");
-            eventService.createEvent(event);
-        }
-        // In real app, parse message and update events accordingly
+    @RateLimited
+    public ResponseEntity<ChatJob> handleChat(@RequestBody String message) {
+        ChatJob job = chatQueue.submit(message);
+        return ResponseEntity.accepted().location(URI.create("/api/chat/jobs/" + job.getId())).body(job);
+    }
+
+    @GetMapping("/jobs/{id}")
+    public ChatJob getJob(@PathVariable String id) {
+        return chatQueue.getJob(id);
     }
 
     @GetMapping
     public String getStatus() {
         return "Chat service is running";
     }
-} 
\ No newline at end of file
+}
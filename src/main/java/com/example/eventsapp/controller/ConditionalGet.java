@@ -0,0 +1,26 @@
+package com.example.eventsapp.controller;
+
+import com.example.eventsapp.service.DataVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+final class ConditionalGet {
+    private ConditionalGet() {
+    }
+
+    /**
+     * Applies the validators of {@code stamp} to the response and returns true when the
+     * client's copy is current, in which case the caller returns null and a 304 is sent.
+     * Read the stamp before loading data: a write racing with the load then yields a
+     * stale tag on fresh data, never the reverse.
+     */
+    static boolean notModified(ServletWebRequest request, DataVersion.Stamp stamp) {
+        request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        // The same URL serves JSON, CBOR or Smile; caches must keep them apart
+        request.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        // Weak: a data version names equivalent content in every format and encoding.
+        // Tomcat also refuses to gzip a response carrying a strong tag
+        return request.checkNotModified("W/\"" + stamp.getEtag() + "\"", stamp.getLastModified());
+    }
+}
@@ -1,43 +1,197 @@
 package com.example.eventsapp.controller;
 
+import com.example.eventsapp.dto.CursorPage;
+import com.example.eventsapp.dto.EventBatch;
+import com.example.eventsapp.dto.EventImportRow;
+import com.example.eventsapp.dto.EventSummary;
+import com.example.eventsapp.dto.ImportResult;
 import com.example.eventsapp.model.Event;
+import com.example.eventsapp.service.Bulkheads;
+import com.example.eventsapp.service.ChangeFeed;
+import com.example.eventsapp.service.DataVersion;
+import com.example.eventsapp.service.EventExportService;
+import com.example.eventsapp.service.EventImportService;
 import com.example.eventsapp.service.EventService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/events")
 @CrossOrigin(origins = "*")
 public class EventController {
     private final EventService service;
+    private final EventExportService exportService;
+    private final EventImportService importService;
+    private final DataVersion dataVersion;
+    private final ChangeFeed changeFeed;
+    private final Bulkheads bulkheads;
+    private final Duration bulkRequestTimeout;
 
-    public EventController(EventService service) {
+    public EventController(EventService service, EventExportService exportService, EventImportService importService,
+                           DataVersion dataVersion, ChangeFeed changeFeed, Bulkheads bulkheads,
+                           @Value("${app.bulk.request-timeout:30m}") Duration bulkRequestTimeout) {
         this.service = service;
+        this.exportService = exportService;
+        this.importService = importService;
+        this.dataVersion = dataVersion;
+        this.changeFeed = changeFeed;
+        this.bulkheads = bulkheads;
+        this.bulkRequestTimeout = bulkRequestTimeout;
     }
 
-    @GetMapping
-    public List<Event> getAllEvents() {
-        return service.getAllEvents();
+    // Not conditional: the result changes at midnight without any write to bump the ETag
+    @GetMapping("/upcoming")
+    public CompletableFuture<List<EventSummary>> getUpcomingEvents(@RequestParam(defaultValue = "" + EventService.DEFAULT_PAGE_SIZE) int limit) {
+        return bulkheads.listReads().submit(() -> service.getUpcomingEvents(limit));
+    }
+
+    // The listing is always paged; /page is the original path. With from or to, pages
+    // through that date range in date order instead of id order
+    @GetMapping({"", "/page"})
+    public CompletableFuture<CursorPage<EventSummary>> getEventsPage(@RequestParam(required = false) Long categoryId,
+                                                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(defaultValue = "" + EventService.DEFAULT_PAGE_SIZE) int size,
+                                                                     ServletWebRequest request) {
+        boolean dateRange = from != null || to != null;
+        if (dateRange && categoryId != null) {
+            throw new IllegalArgumentException("categoryId cannot be combined with from or to");
+        }
+        if (ConditionalGet.notModified(request, dataVersion.events())) {
+            return null;
+        }
+        return bulkheads.listReads().submit(() -> dateRange
+                ? service.getEventsBetween(from, to, cursor, size)
+                : service.getEventsPage(categoryId, cursor, size));
+    }
+
+    @GetMapping("/search")
+    public CompletableFuture<List<EventSummary>> searchEvents(@RequestParam String q,
+                                                              @RequestParam(defaultValue = "" + EventService.DEFAULT_PAGE_SIZE) int limit,
+                                                              ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, dataVersion.events())) {
+            return null;
+        }
+        return bulkheads.listReads().submit(() -> service.searchEvents(q, limit));
+    }
+
+    // POST so a long id list travels in the body rather than the URL; nothing is written
+    @PostMapping("/batch-get")
+    public CompletableFuture<EventBatch> getEvents(@RequestBody List<Long> ids) {
+        return bulkheads.listReads().submit(() -> service.getEvents(ids));
+    }
+
+    // Written straight to the response on the MVC executor, under the bulk request timeout
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public WebAsyncTask<Void> exportEvents(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return new WebAsyncTask<>(bulkRequestTimeout.toMillis(), () -> {
+            OutputStream out = response.getOutputStream();
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out);
+                exportService.exportNdjson(compressed);
+                compressed.finish();
+            } else {
+                exportService.exportNdjson(out);
+            }
+            out.flush();
+            return null;
+        });
+    }
+
+    // Event and category changes as Server-Sent Events; browsers resend Last-Event-ID on reconnect
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return changeFeed.subscribe(lastEventId);
     }
 
     @GetMapping("/{id}")
-    public Event getEvent(@PathVariable Long id) {
-        return service.getEvent(id);
+    public CompletableFuture<Event> getEvent(@PathVariable Long id, ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, dataVersion.events())) {
+            return null;
+        }
+        return bulkheads.pointReads().submit(() -> service.getEvent(id));
     }
 
     @PostMapping
-    public Event createEvent(@RequestBody Event event) {
-        return service.createEvent(event);
+    @RateLimited
+    public CompletableFuture<Event> createEvent(@RequestBody Event event) {
+        return bulkheads.writes().submit(() -> service.createEvent(event));
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @RateLimited
+    public DeferredResult<ImportResult> importEvents(@RequestBody List<EventImportRow> rows,
+                                                     @RequestParam(defaultValue = "" + EventImportService.DEFAULT_BATCH_SIZE) int batchSize) {
+        return bulk(bulkheads.writes().submit(() -> importService.importEvents(rows, batchSize)));
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @RateLimited
+    public DeferredResult<ImportResult> importEventsCsv(@RequestBody String csv,
+                                                        @RequestParam(defaultValue = "" + EventImportService.DEFAULT_BATCH_SIZE) int batchSize) {
+        return bulk(bulkheads.writes().submit(() -> {
+            try {
+                return importService.importCsv(new StringReader(csv), batchSize);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
     }
 
     @PutMapping("/{id}")
-    public Event updateEvent(@PathVariable Long id, @RequestBody Event event) {
+    @RateLimited
+    public CompletableFuture<Event> updateEvent(@PathVariable Long id, @RequestBody Event event) {
         event.setId(id);
-        return service.updateEvent(event);
+        return bulkheads.writes().submit(() -> service.updateEvent(event));
     }
 
     @DeleteMapping("/{id}")
-    public void deleteEvent(@PathVariable Long id) {
-        service.deleteEvent(id);
+    @RateLimited
+    public CompletableFuture<Void> deleteEvent(@PathVariable Long id, @RequestParam(required = false) Long version) {
+        return bulkheads.writes().run(() -> service.deleteEvent(id, version));
+    }
+
+    /**
+     * Exports and imports outlast {@code spring.mvc.async.request-timeout}, which is sized
+     * for the bulkheaded endpoints. Timing out an import would answer 503 while the rows
+     * are still being written, and a client retrying on it would import them twice.
+     */
+    private <T> DeferredResult<T> bulk(CompletableFuture<T> work) {
+        DeferredResult<T> result = new DeferredResult<>(bulkRequestTimeout.toMillis());
+        work.whenComplete((value, error) -> {
+            if (error != null) {
+                result.setErrorResult(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            } else {
+                result.setResult(value);
+            }
+        });
+        return result;
     }
-} 
\ No newline at end of file
+}
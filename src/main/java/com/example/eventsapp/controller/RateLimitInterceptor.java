@@ -0,0 +1,44 @@
+package com.example.eventsapp.controller;
+
+import com.example.eventsapp.service.RateLimiter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Set;
+
+/**
+ * Admits requests to {@link RateLimited} handlers before their body is read. The
+ * client is the X-API-Key header when it is one of the configured keys, otherwise the
+ * remote address (which honours X-Forwarded-For when server.forward-headers-strategy is
+ * set behind a proxy). Unknown keys count as the address: the caller picks the header,
+ * and a fresh key per request would otherwise get a fresh bucket each time.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+    static final String API_KEY_HEADER = "X-API-Key";
+
+    private final RateLimiter rateLimiter;
+    private final Set<String> apiKeys;
+
+    public RateLimitInterceptor(RateLimiter rateLimiter, Set<String> apiKeys) {
+        this.rateLimiter = rateLimiter;
+        this.apiKeys = Set.copyOf(apiKeys);
+    }
+
+    // Async handlers are dispatched a second time to write the result; only the first counts
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.REQUEST && handler instanceof HandlerMethod
+                && ((HandlerMethod) handler).hasMethodAnnotation(RateLimited.class)) {
+            rateLimiter.acquire(client(request));
+        }
+        return true;
+    }
+
+    String client(HttpServletRequest request) {
+        String apiKey = request.getHeader(API_KEY_HEADER);
+        return apiKey != null && apiKeys.contains(apiKey) ? "key:" + apiKey : "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.eventsapp.controller;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a handler whose requests each take a token from the caller's bucket in
+ * {@link com.example.eventsapp.service.RateLimiter}; see {@link RateLimitInterceptor}.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+}
@@ -0,0 +1,21 @@
+package com.example.eventsapp.dto;
+
+/**
+ * How many events a category holds, for the category sidebar.
+ */
+public class CategoryCount {
+    private final Long categoryId;
+    private final String name;
+    private final long eventCount;
+
+    // Also used by the JPQL constructor expression in EventRepository
+    public CategoryCount(Long categoryId, String name, long eventCount) {
+        this.categoryId = categoryId;
+        this.name = name;
+        this.eventCount = eventCount;
+    }
+
+    public Long getCategoryId() { return categoryId; }
+    public String getName() { return name; }
+    public long getEventCount() { return eventCount; }
+}
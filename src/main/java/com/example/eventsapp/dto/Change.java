@@ -0,0 +1,55 @@
+package com.example.eventsapp.dto;
+
+import com.example.eventsapp.model.Category;
+import com.example.eventsapp.model.Event;
+
+/**
+ * One create, update or delete pushed to {@code /api/events/stream}. Events travel as
+ * {@link EventSummary} so clients can patch list views in place; deletes only carry
+ * the id.
+ */
+public class Change {
+    public enum Entity { EVENT, CATEGORY }
+    public enum Action { CREATED, UPDATED, DELETED }
+
+    private final Entity entity;
+    private final Action action;
+    private final Long id;
+    private final Object data;
+
+    public Change(Entity entity, Action action, Long id, Object data) {
+        this.entity = entity;
+        this.action = action;
+        this.id = id;
+        this.data = data;
+    }
+
+    public static Change eventCreated(Event event) {
+        return new Change(Entity.EVENT, Action.CREATED, event.getId(), EventSummary.of(event));
+    }
+
+    public static Change eventUpdated(Event event) {
+        return new Change(Entity.EVENT, Action.UPDATED, event.getId(), EventSummary.of(event));
+    }
+
+    public static Change eventDeleted(Long id) {
+        return new Change(Entity.EVENT, Action.DELETED, id, null);
+    }
+
+    public static Change categoryCreated(Category category) {
+        return new Change(Entity.CATEGORY, Action.CREATED, category.getId(), category);
+    }
+
+    public static Change categoryUpdated(Category category) {
+        return new Change(Entity.CATEGORY, Action.UPDATED, category.getId(), category);
+    }
+
+    public static Change categoryDeleted(Long id) {
+        return new Change(Entity.CATEGORY, Action.DELETED, id, null);
+    }
+
+    public Entity getEntity() { return entity; }
+    public Action getAction() { return action; }
+    public Long getId() { return id; }
+    public Object getData() { return data; }
+}
@@ -0,0 +1,30 @@
+package com.example.eventsapp.dto;
+
+/**
+ * Where a queued chat message stands. {@code eventId} is set once a command created an
+ * event; {@code message} explains the outcome of a finished job.
+ */
+public class ChatJob {
+    public enum Status { QUEUED, COMPLETED, FAILED }
+
+    private final String id;
+    private final Status status;
+    private final Long eventId;
+    private final String message;
+
+    public ChatJob(String id, Status status, Long eventId, String message) {
+        this.id = id;
+        this.status = status;
+        this.eventId = eventId;
+        this.message = message;
+    }
+
+    public static ChatJob queued(String id) {
+        return new ChatJob(id, Status.QUEUED, null, null);
+    }
+
+    public String getId() { return id; }
+    public Status getStatus() { return status; }
+    public Long getEventId() { return eventId; }
+    public String getMessage() { return message; }
+}
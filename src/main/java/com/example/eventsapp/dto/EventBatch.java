@@ -0,0 +1,22 @@
+package com.example.eventsapp.dto;
+
+import com.example.eventsapp.model.Event;
+
+import java.util.List;
+
+/**
+ * Result of a multi-get: the events found, in the order their ids were asked for, and
+ * the ids that matched no event.
+ */
+public class EventBatch {
+    private final List<Event> events;
+    private final List<Long> missingIds;
+
+    public EventBatch(List<Event> events, List<Long> missingIds) {
+        this.events = events;
+        this.missingIds = missingIds;
+    }
+
+    public List<Event> getEvents() { return events; }
+    public List<Long> getMissingIds() { return missingIds; }
+}
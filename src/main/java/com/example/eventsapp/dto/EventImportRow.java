@@ -0,0 +1,30 @@
+package com.example.eventsapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * One event in a bulk import, as read from a JSON array or a CSV file with a header
+ * row. The category is referenced by name and must already exist.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class EventImportRow {
+    private String type;
+    private String title;
+    private String description;
+    private String date;
+    private String image;
+    private String category;
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+    public String getDate() { return date; }
+    public void setDate(String date) { this.date = date; }
+    public String getImage() { return image; }
+    public void setImage(String image) { this.image = image; }
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+}
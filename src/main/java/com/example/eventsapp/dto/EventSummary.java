@@ -0,0 +1,63 @@
+package com.example.eventsapp.dto;
+
+import com.example.eventsapp.model.Category;
+import com.example.eventsapp.model.Event;
+import java.time.LocalDate;
+
+/**
+ * List-card view of an event. Carries a short description snippet instead of the
+ * full description, which is only returned by {@code GET /api/events/{id}}, and the
+ * version, so a listed event can be deleted conditionally.
+ */
+public class EventSummary {
+    public static final int SNIPPET_LENGTH = 200;
+
+    private final Long id;
+    private final String type;
+    private final String title;
+    private final LocalDate date;
+    private final String image;
+    private final Category category;
+    private final String snippet;
+    private final Long version;
+
+    // Used by the JPQL constructor expressions in EventRepository
+    public EventSummary(Long id, String type, String title, LocalDate date, String image,
+                        Long categoryId, String categoryName, String snippet, Long version) {
+        this.id = id;
+        this.type = type;
+        this.title = title;
+        this.date = date;
+        this.image = image;
+        this.category = categoryId == null ? null : category(categoryId, categoryName);
+        this.snippet = snippet;
+        this.version = version;
+    }
+
+    public static EventSummary of(Event event) {
+        String description = event.getDescription();
+        String snippet = description == null || description.length() <= SNIPPET_LENGTH
+                ? description : description.substring(0, SNIPPET_LENGTH);
+        Category category = event.getCategory();
+        return new EventSummary(event.getId(), event.getType(), event.getTitle(), event.getDate(), event.getImage(),
+                category == null ? null : category.getId(), category == null ? null : category.getName(), snippet,
+                event.getVersion());
+    }
+
+    private static Category category(Long id, String name) {
+        Category category = new Category();
+        category.setId(id);
+        category.setName(name);
+        return category;
+    }
+
+    public Long getId() { return id; }
+    public String getType() { return type; }
+    public String getTitle() { return title; }
+    public LocalDate getDate() { return date; }
+    public boolean isUnscheduled() { return date == null; }
+    public String getImage() { return image; }
+    public Category getCategory() { return category; }
+    public String getSnippet() { return snippet; }
+    public Long getVersion() { return version; }
+}
@@ -0,0 +1,18 @@
+package com.example.eventsapp.dto;
+
+/**
+ * A row that was not imported. Rows are numbered from 1 in input order, not counting
+ * a CSV header.
+ */
+public class ImportError {
+    private final int row;
+    private final String message;
+
+    public ImportError(int row, String message) {
+        this.row = row;
+        this.message = message;
+    }
+
+    public int getRow() { return row; }
+    public String getMessage() { return message; }
+}
@@ -0,0 +1,30 @@
+package com.example.eventsapp.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import: how many rows were received and stored, how long it took,
+ * and why each rejected row failed.
+ */
+public class ImportResult {
+    private final int received;
+    private final int imported;
+    private final long elapsedMillis;
+    private final double rowsPerSecond;
+    private final List<ImportError> errors;
+
+    public ImportResult(int received, int imported, long elapsedMillis, double rowsPerSecond, List<ImportError> errors) {
+        this.received = received;
+        this.imported = imported;
+        this.elapsedMillis = elapsedMillis;
+        this.rowsPerSecond = rowsPerSecond;
+        this.errors = errors;
+    }
+
+    public int getReceived() { return received; }
+    public int getImported() { return imported; }
+    public int getFailed() { return errors.size(); }
+    public long getElapsedMillis() { return elapsedMillis; }
+    public double getRowsPerSecond() { return rowsPerSecond; }
+    public List<ImportError> getErrors() { return errors; }
+}
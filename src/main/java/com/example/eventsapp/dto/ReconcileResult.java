@@ -0,0 +1,18 @@
+package com.example.eventsapp.dto;
+
+/**
+ * Outcome of recounting events per category: how many categories were checked and
+ * how many of their counters had drifted and were corrected.
+ */
+public class ReconcileResult {
+    private final int checked;
+    private final int corrected;
+
+    public ReconcileResult(int checked, int corrected) {
+        this.checked = checked;
+        this.corrected = corrected;
+    }
+
+    public int getChecked() { return checked; }
+    public int getCorrected() { return corrected; }
+}
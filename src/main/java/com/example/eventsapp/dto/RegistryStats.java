@@ -0,0 +1,25 @@
+package com.example.eventsapp.dto;
+
+/**
+ * Counters for the in-memory category registry. A miss is a read that found no
+ * snapshot and had to load one from the database; refreshes count every snapshot
+ * published, whether loaded or produced by a write.
+ */
+public class RegistryStats {
+    private final long hits;
+    private final long misses;
+    private final long refreshes;
+    private final int size;
+
+    public RegistryStats(long hits, long misses, long refreshes, int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.refreshes = refreshes;
+        this.size = size;
+    }
+
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+    public long getRefreshes() { return refreshes; }
+    public int getSize() { return size; }
+}
@@ -0,0 +1,10 @@
+package com.example.eventsapp.exception;
+
+/**
+ * The requested entity does not exist. Answered with 404.
+ */
+public class NotFoundException extends RuntimeException {
+    public NotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.eventsapp.exception;
+
+/**
+ * A bounded work queue has no room for the request. Answered with 503 and a
+ * Retry-After header so clients back off instead of piling on.
+ */
+public class QueueFullException extends RuntimeException {
+    public QueueFullException(String message) {
+        super(message);
+    }
+}
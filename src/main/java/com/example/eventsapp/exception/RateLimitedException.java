@@ -0,0 +1,18 @@
+package com.example.eventsapp.exception;
+
+/**
+ * A client sent writes faster than its rate limit allows. Answered with 429 and a
+ * Retry-After header saying when the next one would be admitted.
+ */
+public class RateLimitedException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public RateLimitedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.eventsapp.exception;
+
+/**
+ * A conditional write matched the id but not the version the client sent, meaning
+ * someone else changed the entity since it was read. Answered with 409.
+ */
+public class VersionConflictException extends RuntimeException {
+    public VersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -1,11 +1,26 @@
 package com.example.eventsapp.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import javax.persistence.*;
+import java.time.LocalDate;
 
+// Cached by id in the second-level cache (see SecondLevelCacheConfig); the category
+// reference resolves through the categories region
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "events")
+@Table(indexes = {
+        @Index(name = "idx_event_category_id", columnList = "category_id, id"),
+        @Index(name = "idx_event_date", columnList = "date, id")
+})
 public class Event {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence so Hibernate can hand out ids without a round trip per insert
+    // and batch the INSERTs; IDENTITY forces an immediate insert for every persist
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_seq")
+    @SequenceGenerator(name = "event_seq", sequenceName = "event_seq", allocationSize = 50)
     private Long id;
     private String type; // movie, concert, event
     private String title;
@@ -13,15 +28,21 @@ public class Event {
     @Column(length = 20000)
     private String description;
     
-    private String date;
+    // Null while the event is unscheduled
+    private LocalDate date;
     
     @Column(length = 500)
     private String image;
     
-    @ManyToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    // No cascade: writes only attach an existing category by id. Lazy, so loading
+    // events never joins category; EventService fills it in from the registry
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
     private Category category;
 
+    @Version
+    private Long version;
+
     // Getters and setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -31,10 +52,14 @@ public class Event {
     public void setTitle(String title) { this.title = title; }
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
-    public String getDate() { return date; }
-    public void setDate(String date) { this.date = date; }
+    public LocalDate getDate() { return date; }
+    public void setDate(LocalDate date) { this.date = date; }
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    public boolean isUnscheduled() { return date == null; }
     public String getImage() { return image; }
     public void setImage(String image) { this.image = image; }
     public Category getCategory() { return category; }
     public void setCategory(Category category) { this.category = category; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 } 
\ No newline at end of file
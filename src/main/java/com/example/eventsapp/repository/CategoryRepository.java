@@ -2,8 +2,31 @@ package com.example.eventsapp.repository;
 
 import com.example.eventsapp.model.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     Optional<Category> findByName(String name);
-} 
\ No newline at end of file
+
+    List<Category> findByNameIn(Collection<String> names);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Category c set c.name = :name, c.version = c.version + 1 where c.id = :id")
+    int updateIfPresent(@Param("id") Long id, @Param("name") String name);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Category c set c.name = :name, c.version = c.version + 1 where c.id = :id and c.version = :version")
+    int updateIfCurrent(@Param("id") Long id, @Param("version") Long version, @Param("name") String name);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Category c where c.id = :id")
+    int deleteIfPresent(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Category c where c.id = :id and c.version = :version")
+    int deleteIfCurrent(@Param("id") Long id, @Param("version") Long version);
+}
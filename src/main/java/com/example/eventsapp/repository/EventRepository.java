@@ -1,6 +1,108 @@
 package com.example.eventsapp.repository;
 
+import com.example.eventsapp.dto.CategoryCount;
+import com.example.eventsapp.dto.EventSummary;
+import com.example.eventsapp.model.Category;
 import com.example.eventsapp.model.Event;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
-public interface EventRepository extends JpaRepository<Event, Long> {} 
\ No newline at end of file
+public interface EventRepository extends JpaRepository<Event, Long> {
+    int EXPORT_FETCH_SIZE = 500;
+
+    String SUMMARY_SELECT = "select new com.example.eventsapp.dto.EventSummary("
+            + "e.id, e.type, e.title, e.date, e.image, c.id, c.name, substring(e.description, 1, "
+            + EventSummary.SNIPPET_LENGTH + "), e.version) from Event e left join e.category c ";
+
+    String UPDATE_BY_ID = "update event set type = :#{#event.type}, title = :#{#event.title}, "
+            + "description = :#{#event.description}, date = :#{#event.date}, image = :#{#event.image}, "
+            + "category_id = :#{#category?.id}, version = version + 1 where id = :#{#event.id}";
+
+    // A query space no entity maps. Hibernate evicts the whole region of every entity a
+    // bulk write touches (all regions, for native SQL with no space), so the writes below
+    // are native SQL synchronized on this instead; callers evict the one event they changed
+    String SINGLE_EVENT_WRITES = "single_event_writes";
+
+    // Keyset page: seeks past the last seen id instead of using OFFSET
+    List<Event> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where e.id > :afterId order by e.id")
+    List<EventSummary> findSummariesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Served by idx_event_category_id (category_id, id)
+    @Query(SUMMARY_SELECT + "where c.id = :categoryId and e.id > :afterId order by e.id")
+    List<EventSummary> findSummariesByCategoryAfter(@Param("categoryId") Long categoryId,
+                                                    @Param("afterId") Long afterId, Pageable pageable);
+
+    // Must be consumed inside a transaction; rows are pulled from the cursor in fetch-size chunks.
+    // H2 only honours that with LAZY_QUERY_EXECUTION on, which EventExportService sets
+    @Query("select e from Event e left join fetch e.category order by e.id")
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    Stream<Event> streamAllWithCategory();
+
+    @Query(SUMMARY_SELECT + "where e.id in :ids")
+    List<EventSummary> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.example.eventsapp.dto.CategoryCount(c.id, c.name, count(e)) "
+            + "from Event e join e.category c group by c.id, c.name")
+    List<CategoryCount> countByCategory();
+
+    // Locks the row, so concurrent writes to one event adjust category counts in commit order
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e.category.id from Event e where e.id = :id")
+    Long findCategoryIdForUpdate(@Param("id") Long id);
+
+    // Keyset pages in (date, id) order that range-scan idx_event_date (date, id); the
+    // first page of a range starts after (from, 0). Unscheduled events never match
+    @Query(SUMMARY_SELECT + "where e.date >= :afterDate and (e.date > :afterDate or e.id > :afterId) "
+            + "and e.date <= :to order by e.date, e.id")
+    List<EventSummary> findSummariesByDateAfterUpTo(@Param("afterDate") LocalDate afterDate, @Param("afterId") Long afterId,
+                                                    @Param("to") LocalDate to, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where e.date >= :afterDate and (e.date > :afterDate or e.id > :afterId) "
+            + "order by e.date, e.id")
+    List<EventSummary> findSummariesByDateAfter(@Param("afterDate") LocalDate afterDate, @Param("afterId") Long afterId,
+                                                Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where e.date <= :to order by e.date, e.id")
+    List<EventSummary> findSummariesByDateUpTo(@Param("to") LocalDate to, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where e.date >= :from order by e.date, e.id")
+    List<EventSummary> findSummariesFrom(@Param("from") LocalDate from, Pageable pageable);
+
+    // Conditional writes return the affected row count: 0 means the id is gone or,
+    // for the versioned variants, that the row has moved on since the client read it
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = UPDATE_BY_ID, nativeQuery = true)
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = SINGLE_EVENT_WRITES))
+    int updateIfPresent(@Param("event") Event event, @Param("category") Category category);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = UPDATE_BY_ID + " and version = :#{#event.version}", nativeQuery = true)
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = SINGLE_EVENT_WRITES))
+    int updateIfCurrent(@Param("event") Event event, @Param("category") Category category);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from event where id = :id", nativeQuery = true)
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = SINGLE_EVENT_WRITES))
+    int deleteIfPresent(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from event where id = :id and version = :version", nativeQuery = true)
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = SINGLE_EVENT_WRITES))
+    int deleteIfCurrent(@Param("id") Long id, @Param("version") Long version);
+}
@@ -0,0 +1,258 @@
+package com.example.eventsapp.search;
+
+import com.example.eventsapp.model.Event;
+import com.example.eventsapp.repository.EventRepository;
+import com.example.eventsapp.service.TransactionCallbacks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory inverted index over event titles and descriptions. Queries match events
+ * containing every query term and rank them by TF-IDF, with title terms weighted
+ * above description terms.
+ */
+@Component
+public class EventSearchIndex {
+    private static final Logger log = LoggerFactory.getLogger(EventSearchIndex.class);
+
+    static final int TITLE_WEIGHT = 3;
+    static final int REBUILD_BATCH_SIZE = 1000;
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final Set<String> STOP_WORDS = new HashSet<>(Arrays.asList(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+            "of", "on", "or", "the", "to", "with"));
+
+    private final EventRepository repository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // term -> (event id -> weighted term frequency)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // event id -> its distinct terms, so an event can be removed without re-tokenizing
+    private final Map<Long, String[]> documents = new HashMap<>();
+
+    public EventSearchIndex(EventRepository repository) {
+        this.repository = repository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long afterId = 0L;
+        int indexed = 0;
+        List<Event> batch;
+        do {
+            batch = repository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            // Tokenizing dominates; do it in parallel and only merge under the lock
+            List<Document> tokenized = batch.parallelStream().map(Document::of).collect(Collectors.toList());
+            lock.writeLock().lock();
+            try {
+                for (Document document : tokenized) {
+                    // An event written while the rebuild runs is already indexed with newer content
+                    if (!documents.containsKey(document.id)) {
+                        add(document);
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            indexed += batch.size();
+            afterId = batch.get(batch.size() - 1).getId();
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        log.info("Search index rebuilt with {} events in {} ms", indexed, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Adds or replaces an event. Inside a transaction the change is applied after
+     * commit, so a rolled back write never becomes searchable.
+     */
+    public void index(Event event) {
+        Document document = Document.of(event);
+        TransactionCallbacks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(document.id);
+                add(document);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void remove(Long id) {
+        TransactionCallbacks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeDocument(id);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Returns the ids of the best matching events, highest score first.
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new HashSet<>(tokenize(query)));
+        if (terms.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> lists = new ArrayList<>(terms.size());
+            double[] idf = new double[terms.size()];
+            for (String term : terms) {
+                Map<Long, Integer> list = postings.get(term);
+                if (list == null) {
+                    return new ArrayList<>();
+                }
+                lists.add(list);
+            }
+            // Walk the rarest term and probe the others, so cost follows the smallest list
+            lists.sort(Comparator.comparingInt(Map::size));
+            for (int i = 0; i < lists.size(); i++) {
+                idf[i] = Math.log(1.0 + (double) documents.size() / lists.get(i).size());
+            }
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, Hit.WORST_FIRST);
+            candidates:
+            for (Map.Entry<Long, Integer> candidate : lists.get(0).entrySet()) {
+                double score = candidate.getValue() * idf[0];
+                for (int i = 1; i < lists.size(); i++) {
+                    Integer tf = lists.get(i).get(candidate.getKey());
+                    if (tf == null) {
+                        continue candidates;
+                    }
+                    score += tf * idf[i];
+                }
+                top.offer(new Hit(candidate.getKey(), score));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            Long[] ids = new Long[top.size()];
+            for (int i = ids.length - 1; i >= 0; i--) {
+                ids[i] = top.poll().id;
+            }
+            return new ArrayList<>(Arrays.asList(ids));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String token = lower.substring(start, i);
+                if (token.length() >= MIN_TOKEN_LENGTH && !STOP_WORDS.contains(token)) {
+                    tokens.add(token);
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private void add(Document document) {
+        for (Map.Entry<String, Integer> term : document.frequencies.entrySet()) {
+            postings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(document.id, term.getValue());
+        }
+        documents.put(document.id, document.frequencies.keySet().toArray(new String[0]));
+    }
+
+    private void removeDocument(Long id) {
+        String[] terms = documents.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Integer> list = postings.get(term);
+            list.remove(id);
+            if (list.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static final class Document {
+        final Long id;
+        final Map<String, Integer> frequencies;
+
+        private Document(Long id, Map<String, Integer> frequencies) {
+            this.id = id;
+            this.frequencies = frequencies;
+        }
+
+        static Document of(Event event) {
+            Map<String, Integer> frequencies = new HashMap<>();
+            for (String token : tokenize(event.getTitle())) {
+                frequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+            }
+            for (String token : tokenize(event.getDescription())) {
+                frequencies.merge(token, 1, Integer::sum);
+            }
+            return new Document(event.getId(), frequencies);
+        }
+    }
+
+    private static final class Hit {
+        static final Comparator<Hit> WORST_FIRST = Comparator.<Hit>comparingDouble(hit -> hit.score)
+                .thenComparing(hit -> hit.id, Comparator.reverseOrder());
+
+        final Long id;
+        final double score;
+
+        Hit(Long id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.eventsapp.service;
+
+import com.example.eventsapp.exception.QueueFullException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A fixed pool of threads with a bounded queue for one class of work. When the queue
+ * is full the submit fails straight away, and a task that waited longer than
+ * {@code maxQueueWait} for a thread fails instead of running; both surface as
+ * {@link QueueFullException}.
+ */
+public final class Bulkhead {
+    private final String name;
+    private final ThreadPoolExecutor executor;
+    private final long maxQueueWaitNanos;
+    private final LongSupplier clock;
+    private final LongAdder rejected = new LongAdder();
+
+    Bulkhead(String name, int threads, int queueCapacity, Duration maxQueueWait) {
+        this(name, threads, queueCapacity, maxQueueWait, System::nanoTime);
+    }
+
+    Bulkhead(String name, int threads, int queueCapacity, Duration maxQueueWait, LongSupplier clock) {
+        AtomicInteger count = new AtomicInteger();
+        this.name = name;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "bulkhead-" + name + "-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.maxQueueWaitNanos = maxQueueWait.toNanos();
+        this.clock = clock;
+    }
+
+    private Bulkhead(String name) {
+        this.name = name;
+        this.executor = null;
+        this.maxQueueWaitNanos = 0L;
+        this.clock = System::nanoTime;
+    }
+
+    static Bulkhead inline(String name) {
+        return new Bulkhead(name);
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        if (executor == null) {
+            complete(result, task);
+            return result;
+        }
+        long queuedAt = clock.getAsLong();
+        try {
+            executor.execute(() -> {
+                // The caller has likely given up by now; don't spend a connection on it
+                if (clock.getAsLong() - queuedAt > maxQueueWaitNanos) {
+                    rejected.increment();
+                    result.completeExceptionally(overloaded());
+                    return;
+                }
+                complete(result, task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw overloaded();
+        }
+        return result;
+    }
+
+    public CompletableFuture<Void> run(Runnable task) {
+        return submit(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public String getName() { return name; }
+    public int getQueueDepth() { return executor == null ? 0 : executor.getQueue().size(); }
+    public int getActiveCount() { return executor == null ? 0 : executor.getActiveCount(); }
+    public long getRejectedCount() { return rejected.sum(); }
+
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static <T> void complete(CompletableFuture<T> result, Supplier<T> task) {
+        try {
+            result.complete(task.get());
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private QueueFullException overloaded() {
+        return new QueueFullException("Too many concurrent " + name + " requests, retry later");
+    }
+}
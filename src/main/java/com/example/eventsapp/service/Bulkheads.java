@@ -0,0 +1,67 @@
+package com.example.eventsapp.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Separate executors for list reads, point reads and writes, so a slow query pattern
+ * can only exhaust its own threads and never the servlet pool. Chat messages have their
+ * own queue in {@link ChatCommandQueue}.
+ * <p>
+ * Their 10 threads are not the only connection users. The connection pool also covers
+ * the chat worker and one export, which streams on the MVC async executor outside any
+ * bulkhead. Further concurrent exports compete with the bulkheads for connections, and
+ * a bulkhead thread may then wait up to Hikari's connection timeout for one. An import
+ * holds a writes thread, and its connection, for as long as it runs (up to
+ * {@code app.bulk.request-timeout}), leaving other writes the remaining two threads.
+ */
+@Component
+public class Bulkheads implements MeterBinder {
+    static final Duration MAX_QUEUE_WAIT = Duration.ofSeconds(2);
+
+    private final Bulkhead listReads;
+    private final Bulkhead pointReads;
+    private final Bulkhead writes;
+
+    // Disabled, work runs on the calling thread; tests use this to share its transaction
+    public Bulkheads(@Value("${app.bulkheads.enabled:true}") boolean enabled) {
+        listReads = enabled ? new Bulkhead("list-reads", 3, 25, MAX_QUEUE_WAIT) : Bulkhead.inline("list-reads");
+        pointReads = enabled ? new Bulkhead("point-reads", 4, 100, MAX_QUEUE_WAIT) : Bulkhead.inline("point-reads");
+        writes = enabled ? new Bulkhead("writes", 3, 50, MAX_QUEUE_WAIT) : Bulkhead.inline("writes");
+    }
+
+    public Bulkhead listReads() { return listReads; }
+    public Bulkhead pointReads() { return pointReads; }
+    public Bulkhead writes() { return writes; }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Bulkhead bulkhead : List.of(listReads, pointReads, writes)) {
+            bind(registry, bulkhead.getName(), bulkhead, Bulkhead::getQueueDepth, Bulkhead::getRejectedCount);
+            Gauge.builder("bulkhead.active", bulkhead, Bulkhead::getActiveCount)
+                    .tag("bulkhead", bulkhead.getName())
+                    .register(registry);
+        }
+    }
+
+    static <T> void bind(MeterRegistry registry, String name, T source,
+                         ToDoubleFunction<T> queueDepth, ToDoubleFunction<T> rejected) {
+        Gauge.builder("bulkhead.queue.depth", source, queueDepth).tag("bulkhead", name).register(registry);
+        FunctionCounter.builder("bulkhead.rejected", source, rejected).tag("bulkhead", name).register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        listReads.shutdown();
+        pointReads.shutdown();
+        writes.shutdown();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.eventsapp.service;
+
+import com.example.eventsapp.model.Category;
+import org.springframework.beans.factory.ObjectProvider;
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * Keeps the category registry current for writes that do not go through
+ * {@link CategoryService}, such as categories saved through the repository directly.
+ * Instantiated by Hibernate through Spring's bean container.
+ */
+public class CategoryChangeListener {
+    private final ObjectProvider<CategoryService> categoryService;
+
+    public CategoryChangeListener(ObjectProvider<CategoryService> categoryService) {
+        this.categoryService = categoryService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Category category) {
+        categoryService.ifAvailable(service -> service.applySaved(category));
+    }
+
+    @PostRemove
+    public void onRemoved(Category category) {
+        categoryService.ifAvailable(service -> service.applyRemoved(category.getId()));
+    }
+}
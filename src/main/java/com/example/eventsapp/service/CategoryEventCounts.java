@@ -0,0 +1,101 @@
+package com.example.eventsapp.service;
+
+import com.example.eventsapp.dto.CategoryCount;
+import com.example.eventsapp.dto.ReconcileResult;
+import com.example.eventsapp.repository.EventRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Number of events per category, kept in memory and adjusted by every event write
+ * once its transaction commits, so the sidebar never needs a GROUP BY. Loaded with
+ * one recount at startup; {@link #reconcile()} recounts on demand and fixes any
+ * counter that drifted.
+ */
+@Component
+public class CategoryEventCounts {
+    private final EventRepository repository;
+    private final CategoryService categoryService;
+    private final Map<Long, AtomicLong> counts = new ConcurrentHashMap<>();
+
+    public CategoryEventCounts(EventRepository repository, CategoryService categoryService) {
+        this.repository = repository;
+        this.categoryService = categoryService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reconcile();
+    }
+
+    /**
+     * Every known category with its count, including categories without events.
+     */
+    public List<CategoryCount> getStats() {
+        return categoryService.getAllCategories().stream()
+                .map(category -> new CategoryCount(category.getId(), category.getName(), count(category.getId())))
+                .collect(Collectors.toList());
+    }
+
+    public long count(Long categoryId) {
+        AtomicLong counter = counts.get(categoryId);
+        return counter == null ? 0 : counter.get();
+    }
+
+    /**
+     * Records an event moving between categories: {@code from} null for a new event,
+     * {@code to} null for a deleted one. Either is also null for an uncategorized event.
+     */
+    public void moved(Long from, Long to) {
+        if (Objects.equals(from, to)) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            adjust(from, -1);
+            adjust(to, 1);
+        });
+    }
+
+    public void added(Map<Long, Long> eventsPerCategory) {
+        if (eventsPerCategory.isEmpty()) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> eventsPerCategory.forEach(this::adjust));
+    }
+
+    /**
+     * Recounts with a single GROUP BY and overwrites counters that disagree. A write
+     * committing during the recount can be reported as drift and then re-applied on
+     * top; running it again settles that.
+     */
+    public synchronized ReconcileResult reconcile() {
+        Map<Long, Long> actual = repository.countByCategory().stream()
+                .collect(Collectors.toMap(CategoryCount::getCategoryId, CategoryCount::getEventCount));
+        Set<Long> ids = new HashSet<>(counts.keySet());
+        ids.addAll(actual.keySet());
+
+        int corrected = 0;
+        for (Long id : ids) {
+            long expected = actual.getOrDefault(id, 0L);
+            if (counts.computeIfAbsent(id, key -> new AtomicLong()).getAndSet(expected) != expected) {
+                corrected++;
+            }
+        }
+        return new ReconcileResult(ids.size(), corrected);
+    }
+
+    private void adjust(Long categoryId, long delta) {
+        if (categoryId != null) {
+            counts.computeIfAbsent(categoryId, key -> new AtomicLong()).addAndGet(delta);
+        }
+    }
+}
@@ -1,47 +1,269 @@
 package com.example.eventsapp.service;
 
+import com.example.eventsapp.dto.Change;
+import com.example.eventsapp.dto.RegistryStats;
+import com.example.eventsapp.exception.NotFoundException;
+import com.example.eventsapp.exception.VersionConflictException;
 import com.example.eventsapp.model.Category;
 import com.example.eventsapp.repository.CategoryRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
 
+/**
+ * Categories are served from an immutable in-memory snapshot. Reads never touch the
+ * database once the snapshot is loaded; every write publishes a modified copy once its
+ * transaction commits, and sees its own changes until then.
+ */
 @Service
+@Timed("app.service")
 public class CategoryService {
     private final CategoryRepository repository;
+    private final DataVersion dataVersion;
+    private final ChangeFeed changeFeed;
 
-    public CategoryService(CategoryRepository repository) {
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    // Key of a writing transaction's own copy of the snapshot
+    private final Object pendingKey = new Object();
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    public CategoryService(CategoryRepository repository, DataVersion dataVersion, ChangeFeed changeFeed) {
         this.repository = repository;
+        this.dataVersion = dataVersion;
+        this.changeFeed = changeFeed;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        load();
     }
 
     public List<Category> getAllCategories() {
-        return repository.findAll();
+        return current().all;
     }
 
     public Category getCategory(Long id) {
-        return repository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Category not found with id: " + id));
+        Category category = current().byId.get(id);
+        if (category == null) {
+            throw new NotFoundException("Category not found with id: " + id);
+        }
+        return category;
+    }
+
+    public boolean exists(Long id) {
+        return current().byId.containsKey(id);
     }
 
     public Category getCategoryByName(String name) {
-        return repository.findByName(name)
-                .orElseThrow(() -> new RuntimeException("Category not found with name: " + name));
+        Category category = current().byName.get(name);
+        if (category == null) {
+            throw new NotFoundException("Category not found with name: " + name);
+        }
+        return category;
     }
 
     public Category createCategory(Category category) {
-        return repository.save(category);
+        Category saved = repository.save(category);
+        publish(current -> current.withSaved(saved));
+        changeFeed.publish(Change.categoryCreated(saved));
+        return saved;
     }
 
+    /**
+     * Single-statement update, conditional on the category's version when it has one.
+     */
+    @Transactional
     public Category updateCategory(Category category) {
-        if (!repository.existsById(category.getId())) {
-            throw new RuntimeException("Category not found with id: " + category.getId());
+        int updated = category.getVersion() == null
+                ? repository.updateIfPresent(category.getId(), category.getName())
+                : repository.updateIfCurrent(category.getId(), category.getVersion(), category.getName());
+        if (updated == 0) {
+            throw missingOrStale(category.getId(), category.getVersion());
+        }
+        if (category.getVersion() != null) {
+            category.setVersion(category.getVersion() + 1);
+        }
+        publish(current -> current.withSaved(category));
+        changeFeed.publish(Change.categoryUpdated(category));
+        return category;
+    }
+
+    @Transactional
+    public void deleteCategory(Long id, Long version) {
+        int deleted = version == null ? repository.deleteIfPresent(id) : repository.deleteIfCurrent(id, version);
+        if (deleted == 0) {
+            throw missingOrStale(id, version);
+        }
+        publish(current -> current.without(id));
+        changeFeed.publish(Change.categoryDeleted(id));
+    }
+
+    /**
+     * Publishes a copy of the snapshot with {@code category} added or replaced. Also
+     * called for category writes that bypass this service (see {@link CategoryChangeListener}).
+     */
+    public void applySaved(Category category) {
+        replace(current -> current.withSaved(category));
+    }
+
+    public void applyRemoved(Long id) {
+        replace(current -> current.without(id));
+    }
+
+    public RegistryStats getRegistryStats() {
+        Snapshot current = snapshot.get();
+        return new RegistryStats(hits.sum(), misses.sum(), refreshes.sum(),
+                current == null ? 0 : current.all.size());
+    }
+
+    private RuntimeException missingOrStale(Long id, Long version) {
+        if (version != null && repository.existsById(id)) {
+            return new VersionConflictException("Category " + id + " was modified after version " + version);
+        }
+        return new NotFoundException("Category not found with id: " + id);
+    }
+
+    private void publish(UnaryOperator<Snapshot> change) {
+        // Make sure there is a snapshot to apply the write to, so the next read
+        // does not depend on what the persistence context flushes
+        load();
+        replace(change);
+    }
+
+    // Inside a transaction the write may still roll back, so the modified copy is only
+    // published once it commits; a rolled back write never reaches the shared snapshot.
+    // Until then the writing transaction reads its own writes from a private copy
+    private void replace(UnaryOperator<Snapshot> change) {
+        dataVersion.categoriesChanged();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            Snapshot own = (Snapshot) TransactionSynchronizationManager.unbindResourceIfPossible(pendingKey);
+            if (own == null) {
+                own = current();
+                TransactionCallbacks.afterCompletion(
+                        () -> TransactionSynchronizationManager.unbindResourceIfPossible(pendingKey));
+            }
+            TransactionSynchronizationManager.bindResource(pendingKey, change.apply(own));
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            generation.incrementAndGet();
+            Snapshot current;
+            do {
+                current = snapshot.get();
+                if (current == null) {
+                    // Nothing loaded yet; the next read sees the write in the database
+                    break;
+                }
+            } while (!snapshot.compareAndSet(current, change.apply(current)));
+            if (current != null) {
+                refreshes.increment();
+            }
+        });
+    }
+
+    private Snapshot current() {
+        Snapshot own = (Snapshot) TransactionSynchronizationManager.getResource(pendingKey);
+        if (own != null) {
+            return own;
+        }
+        Snapshot current = snapshot.get();
+        if (current != null) {
+            hits.increment();
+            return current;
+        }
+        misses.increment();
+        return load();
+    }
+
+    private synchronized Snapshot load() {
+        Snapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        long loadedAt = generation.get();
+        Snapshot fresh = Snapshot.of(repository.findAll());
+        refreshes.increment();
+        // A write that raced with the reload wins; the next read loads again. Inside a
+        // read-write transaction the load may include the caller's uncommitted writes,
+        // which must not be handed to anyone else
+        if (generation.get() == loadedAt && !inReadWriteTransaction()) {
+            snapshot.compareAndSet(null, fresh);
         }
-        return repository.save(category);
+        return fresh;
     }
 
-    public void deleteCategory(Long id) {
-        if (!repository.existsById(id)) {
-            throw new RuntimeException("Category not found with id: " + id);
+    private static boolean inReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private static final class Snapshot {
+        final List<Category> all;
+        final Map<Long, Category> byId;
+        final Map<String, Category> byName;
+
+        private Snapshot(List<Category> copies) {
+            Map<Long, Category> ids = new HashMap<>();
+            Map<String, Category> names = new HashMap<>();
+            for (Category copy : copies) {
+                ids.put(copy.getId(), copy);
+                names.putIfAbsent(copy.getName(), copy);
+            }
+            this.all = Collections.unmodifiableList(copies);
+            this.byId = Collections.unmodifiableMap(ids);
+            this.byName = Collections.unmodifiableMap(names);
+        }
+
+        static Snapshot of(List<Category> categories) {
+            List<Category> copies = new ArrayList<>(categories.size());
+            for (Category category : categories) {
+                copies.add(copy(category));
+            }
+            return new Snapshot(copies);
+        }
+
+        Snapshot withSaved(Category category) {
+            List<Category> copies = new ArrayList<>(all.size() + 1);
+            for (Category existing : all) {
+                if (!existing.getId().equals(category.getId())) {
+                    copies.add(existing);
+                }
+            }
+            copies.add(copy(category));
+            return new Snapshot(copies);
+        }
+
+        Snapshot without(Long id) {
+            List<Category> copies = new ArrayList<>(all.size());
+            for (Category existing : all) {
+                if (!existing.getId().equals(id)) {
+                    copies.add(existing);
+                }
+            }
+            return new Snapshot(copies);
+        }
+
+        // Detached copies, so callers never share managed entities
+        private static Category copy(Category category) {
+            Category copy = new Category();
+            copy.setId(category.getId());
+            copy.setName(category.getName());
+            copy.setVersion(category.getVersion());
+            return copy;
         }
-        repository.deleteById(id);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,283 @@
+package com.example.eventsapp.service;
+
+import com.example.eventsapp.dto.Change;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed changes to Server-Sent Events subscribers. Each change is
+ * serialized once on the writing thread and handed to a single dispatcher thread,
+ * which numbers it, keeps it in a replay buffer and queues it on every subscriber's
+ * outbox. A small sender pool drains the outboxes, so the dispatcher never blocks
+ * on a socket. Subscribers are async requests, so an idle client holds a
+ * connection but no servlet thread.
+ *
+ * <p>A client that stops reading holds at most one sender thread until the
+ * container's write timeout; once its outbox fills it is dropped, and on
+ * reconnecting it catches up from the replay buffer like any other client.
+ *
+ * <p>A client reconnecting with {@code Last-Event-ID} gets the changes it missed
+ * replayed, or a {@code reset} event telling it to refetch when they have already
+ * left the buffer.
+ */
+@Component
+public class ChangeFeed {
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeed.class);
+
+    static final int REPLAY_CAPACITY = 1024;
+    static final long EMITTER_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(30);
+    static final long HEARTBEAT_SECONDS = 15;
+    static final long RECONNECT_MILLIS = 3_000;
+    static final int OUTBOX_CAPACITY = 128;
+    static final int SENDER_THREADS = 8;
+    static final String CHANGE = "change";
+    static final String RESET = "reset";
+
+    private final ObjectMapper objectMapper;
+    private final ScheduledExecutorService dispatcher;
+    private final ExecutorService senders;
+    // Distinguishes ids of different runs, which all start at zero
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    // Only touched on the dispatcher thread
+    private final Deque<Delta> recent = new ArrayDeque<>();
+    private final Map<SseEmitter, Subscriber> subscribers = new LinkedHashMap<>();
+    private long sequence;
+
+    @Autowired
+    public ChangeFeed(ObjectMapper objectMapper) {
+        this(objectMapper, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "change-feed");
+            thread.setDaemon(true);
+            return thread;
+        }), Executors.newFixedThreadPool(SENDER_THREADS, new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "change-feed-sender-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        }));
+    }
+
+    ChangeFeed(ObjectMapper objectMapper, ScheduledExecutorService dispatcher, ExecutorService senders) {
+        this.objectMapper = objectMapper;
+        this.dispatcher = dispatcher;
+        this.senders = senders;
+        dispatcher.scheduleAtFixedRate(this::heartbeat, HEARTBEAT_SECONDS, HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(new SseEmitter(EMITTER_TIMEOUT_MILLIS), lastEventId);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, String lastEventId) {
+        Runnable unsubscribe = () -> dispatcher.execute(() -> subscribers.remove(emitter));
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+        // Registering on the dispatcher orders the replay before any live change
+        dispatcher.execute(() -> {
+            List<SseEmitter.SseEventBuilder> backlog = new ArrayList<>();
+            backlog.add(SseEmitter.event().reconnectTime(RECONNECT_MILLIS).comment("connected"));
+            replay(backlog, lastEventId);
+            Subscriber subscriber = new Subscriber(emitter);
+            subscribers.put(emitter, subscriber);
+            offer(subscriber, target -> {
+                for (SseEmitter.SseEventBuilder event : backlog) {
+                    target.send(event);
+                }
+            });
+        });
+        return emitter;
+    }
+
+    /**
+     * Sends {@code change} to subscribers once the current transaction commits, or
+     * straight away outside one.
+     */
+    public void publish(Change change) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(change);
+        } catch (JsonProcessingException e) {
+            log.error("Could not serialize {} {} {}", change.getAction(), change.getEntity(), change.getId(), e);
+            return;
+        }
+        dispatchAfterCommit(CHANGE, json);
+    }
+
+    /**
+     * Tells subscribers to refetch, for writes too large to describe change by change.
+     */
+    public void reset() {
+        dispatchAfterCommit(RESET, "{}");
+    }
+
+    private void dispatchAfterCommit(String name, String json) {
+        TransactionCallbacks.afterCommit(() -> dispatcher.execute(() -> dispatch(name, json)));
+    }
+
+    private void dispatch(String name, String json) {
+        Delta delta = new Delta(++sequence, name, json);
+        recent.addLast(delta);
+        if (recent.size() > REPLAY_CAPACITY) {
+            recent.removeFirst();
+        }
+        sendToAll(subscriber -> subscriber.send(event(delta)));
+    }
+
+    private void replay(List<SseEmitter.SseEventBuilder> backlog, String lastEventId) {
+        if (lastEventId == null || lastEventId.isEmpty()) {
+            return;
+        }
+        long after = parseSequence(lastEventId);
+        long oldest = recent.isEmpty() ? sequence + 1 : recent.peekFirst().sequence;
+        if (after < 0 || after > sequence || after + 1 < oldest) {
+            // Missed changes are gone (or the id is from another run); start over
+            backlog.add(SseEmitter.event().id(id(sequence)).name(RESET).data("{}"));
+            return;
+        }
+        for (Delta delta : recent) {
+            if (delta.sequence > after) {
+                backlog.add(event(delta));
+            }
+        }
+    }
+
+    // Keeps proxies from closing idle connections and finds clients that went away
+    private void heartbeat() {
+        sendToAll(subscriber -> subscriber.send(SseEmitter.event().comment("keep-alive")));
+    }
+
+    private void sendToAll(Send send) {
+        for (Subscriber subscriber : new ArrayList<>(subscribers.values())) {
+            offer(subscriber, send);
+        }
+    }
+
+    private void offer(Subscriber subscriber, Send send) {
+        if (subscriber.outbox.offer(send)) {
+            schedule(subscriber);
+        } else {
+            log.info("Dropping change feed subscriber that fell {} events behind", OUTBOX_CAPACITY);
+            drop(subscriber);
+        }
+    }
+
+    // Only on the dispatcher thread; the emitter itself is completed by its sender
+    private void drop(Subscriber subscriber) {
+        subscribers.remove(subscriber.emitter);
+        subscriber.closed = true;
+        schedule(subscriber);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    // At most one drain runs per subscriber, so its events stay in order
+    private void drain(Subscriber subscriber) {
+        do {
+            Send send;
+            while (!subscriber.closed && (send = subscriber.outbox.poll()) != null) {
+                try {
+                    send.to(subscriber.emitter);
+                } catch (IOException | IllegalStateException e) {
+                    subscriber.closed = true;
+                    dispatcher.execute(() -> subscribers.remove(subscriber.emitter));
+                }
+            }
+            if (subscriber.closed) {
+                // Leaves draining set, so nothing is scheduled for it again
+                subscriber.outbox.clear();
+                subscriber.emitter.completeWithError(new IOException("Subscriber disconnected"));
+                return;
+            }
+            subscriber.draining.set(false);
+        } while (!subscriber.outbox.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void close() {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+        subscribers.keySet().forEach(SseEmitter::complete);
+    }
+
+    private SseEmitter.SseEventBuilder event(Delta delta) {
+        return SseEmitter.event().id(id(delta.sequence)).name(delta.name).data(delta.json);
+    }
+
+    private String id(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    private long parseSequence(String lastEventId) {
+        if (!lastEventId.startsWith(epoch + "-")) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(epoch.length() + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private interface Send {
+        void to(SseEmitter subscriber) throws IOException;
+    }
+
+    private static final class Subscriber {
+        final SseEmitter emitter;
+        final Queue<Send> outbox = new ArrayBlockingQueue<>(OUTBOX_CAPACITY);
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile boolean closed;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+
+    private static final class Delta {
+        final long sequence;
+        final String name;
+        final String json;
+
+        Delta(long sequence, String name, String json) {
+            this.sequence = sequence;
+            this.name = name;
+            this.json = json;
+        }
+    }
+}
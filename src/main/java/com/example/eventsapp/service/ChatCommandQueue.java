@@ -0,0 +1,225 @@
+package com.example.eventsapp.service;
+
+import com.example.eventsapp.dto.Change;
+import com.example.eventsapp.dto.ChatJob;
+import com.example.eventsapp.exception.NotFoundException;
+import com.example.eventsapp.exception.QueueFullException;
+import com.example.eventsapp.model.Event;
+import com.example.eventsapp.search.EventSearchIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManager;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accepts chat messages into a bounded queue and answers with a job id straight away.
+ * A single worker drains whatever has queued up, up to {@link #BATCH_SIZE} messages at
+ * a time, and persists the resulting events in one transaction so a burst of messages
+ * becomes a few JDBC batches instead of a stream of single-row inserts. A full queue
+ * rejects new messages rather than growing without bound.
+ */
+@Service
+public class ChatCommandQueue implements MeterBinder {
+    private static final Logger log = LoggerFactory.getLogger(ChatCommandQueue.class);
+
+    public static final int QUEUE_CAPACITY = 1000;
+    public static final int BATCH_SIZE = 50;
+    static final int MAX_RETAINED_JOBS = 10_000;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate batchTransaction;
+    private final EventSearchIndex searchIndex;
+    private final DataVersion dataVersion;
+    private final ChangeFeed changeFeed;
+
+    private final BlockingQueue<Command> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Map<String, ChatJob> jobs = new ConcurrentHashMap<>();
+    private final LongAdder rejected = new LongAdder();
+    // Finished job ids, oldest first; only the worker touches it
+    private final Deque<String> finished = new ArrayDeque<>();
+    private Thread worker;
+
+    public ChatCommandQueue(EntityManager entityManager, PlatformTransactionManager transactionManager,
+                            EventSearchIndex searchIndex, DataVersion dataVersion, ChangeFeed changeFeed) {
+        this.entityManager = entityManager;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.searchIndex = searchIndex;
+        this.dataVersion = dataVersion;
+        this.changeFeed = changeFeed;
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = new Thread(this::drain, "chat-worker");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        worker.interrupt();
+        worker.join(5_000);
+    }
+
+    public ChatJob submit(String message) {
+        ChatJob job = ChatJob.queued(UUID.randomUUID().toString());
+        jobs.put(job.getId(), job);
+        if (!queue.offer(new Command(job.getId(), message))) {
+            jobs.remove(job.getId());
+            rejected.increment();
+            throw new QueueFullException("Chat queue is full, retry later");
+        }
+        return job;
+    }
+
+    public ChatJob getJob(String id) {
+        ChatJob job = jobs.get(id);
+        if (job == null) {
+            throw new NotFoundException("Chat job not found with id: " + id);
+        }
+        return job;
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    // Reported alongside the request bulkheads, as the "chat" workload class
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Bulkheads.bind(registry, "chat", this, ChatCommandQueue::getQueueDepth, ChatCommandQueue::getRejectedCount);
+    }
+
+    private void drain() {
+        List<Command> batch = new ArrayList<>(BATCH_SIZE);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, BATCH_SIZE - 1);
+            try {
+                processBatch(batch);
+            } catch (RuntimeException e) {
+                // Never let one bad batch stop the worker
+                log.error("Chat batch of {} messages failed", batch.size(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * Drains everything currently queued on the calling thread. The worker does this on
+     * its own; tests call it to avoid waiting on another thread.
+     */
+    void drainNow() {
+        List<Command> batch = new ArrayList<>(BATCH_SIZE);
+        while (queue.drainTo(batch, BATCH_SIZE) > 0) {
+            processBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void processBatch(List<Command> batch) {
+        List<Command> commands = new ArrayList<>(batch.size());
+        for (Command command : batch) {
+            command.event = parse(command.message);
+            if (command.event == null) {
+                finish(new ChatJob(command.jobId, ChatJob.Status.COMPLETED, null, "No command recognised"));
+            } else {
+                commands.add(command);
+            }
+        }
+        if (!commands.isEmpty() && persist(commands) > 0) {
+            dataVersion.eventsChanged();
+        }
+    }
+
+    private int persist(List<Command> commands) {
+        try {
+            batchTransaction.executeWithoutResult(status -> {
+                commands.forEach(command -> entityManager.persist(command.event));
+                entityManager.flush();
+                entityManager.clear();
+                commands.forEach(command -> {
+                    searchIndex.index(command.event);
+                    changeFeed.publish(Change.eventCreated(command.event));
+                });
+            });
+        } catch (RuntimeException e) {
+            if (commands.size() == 1) {
+                Command command = commands.get(0);
+                finish(new ChatJob(command.jobId, ChatJob.Status.FAILED, null,
+                        NestedExceptionUtils.getMostSpecificCause(e).getMessage()));
+                return 0;
+            }
+            // Replay one by one so a single bad message doesn't fail its neighbours
+            int saved = 0;
+            for (Command command : commands) {
+                command.event = parse(command.message);
+                saved += persist(List.of(command));
+            }
+            return saved;
+        }
+        for (Command command : commands) {
+            finish(new ChatJob(command.jobId, ChatJob.Status.COMPLETED, command.event.getId(), "Event created"));
+        }
+        return commands.size();
+    }
+
+    private void finish(ChatJob job) {
+        jobs.put(job.getId(), job);
+        finished.addLast(job.getId());
+        while (finished.size() > MAX_RETAINED_JOBS) {
+            jobs.remove(finished.removeFirst());
+        }
+    }
+
+    // Simple logic: a message containing "add" asks for a new event
+    private static Event parse(String message) {
+        if (message == null || !message.toLowerCase(Locale.ROOT).contains("add")) {
+            return null;
+        }
+        Event event = new Event();
+        event.setType("custom");
+        event.setTitle("User Requested Event");
+        event.setDescription(message);
+        event.setDate(null); // unscheduled until someone picks a date
+        return event;
+    }
+
+    private static final class Command {
+        final String jobId;
+        final String message;
+        Event event;
+
+        Command(String jobId, String message) {
+            this.jobId = jobId;
+            this.message = message;
+        }
+    }
+}
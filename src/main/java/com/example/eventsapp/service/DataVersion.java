@@ -0,0 +1,57 @@
+package com.example.eventsapp.service;
+
+import org.springframework.stereotype.Component;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Version stamps for the event and category data sets, used as ETag and
+ * Last-Modified validators. Every mutation bumps a counter, so validators are
+ * computed without hashing response bodies.
+ */
+@Component
+public class DataVersion {
+    // Distinguishes counters of different runs, which all start at zero
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong counter = new AtomicLong();
+    private final AtomicReference<Stamp> events = new AtomicReference<>(next());
+    private final AtomicReference<Stamp> categories = new AtomicReference<>(next());
+
+    public Stamp events() {
+        return events.get();
+    }
+
+    public Stamp categories() {
+        return categories.get();
+    }
+
+    // Bumping before commit could tag a response holding old rows with the new version
+    public void eventsChanged() {
+        TransactionCallbacks.afterCommit(() -> events.set(next()));
+    }
+
+    public void categoriesChanged() {
+        // Event payloads embed their category, so both data sets change
+        TransactionCallbacks.afterCommit(() -> {
+            categories.set(next());
+            events.set(next());
+        });
+    }
+
+    private Stamp next() {
+        return new Stamp(epoch + "-" + counter.incrementAndGet(), System.currentTimeMillis());
+    }
+
+    public static final class Stamp {
+        private final String etag;
+        private final long lastModified;
+
+        Stamp(String etag, long lastModified) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        public String getEtag() { return etag; }
+        public long getLastModified() { return lastModified; }
+    }
+}
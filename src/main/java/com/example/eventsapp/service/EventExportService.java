@@ -0,0 +1,85 @@
+package com.example.eventsapp.service;
+
+import com.example.eventsapp.model.Event;
+import com.example.eventsapp.repository.EventRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes every event as newline-delimited JSON. Rows are streamed from a database
+ * cursor and the persistence context is cleared periodically, so heap use does not
+ * grow with the size of the table.
+ *
+ * <p>Embedded H2 ignores the JDBC fetch size and by default materializes the whole
+ * result in this JVM (up to {@code MAX_MEMORY_ROWS}) before the first row comes
+ * back, so the export switches its session to lazy query execution while it runs.
+ */
+@Service
+public class EventExportService {
+    static final int CLEAR_INTERVAL = EventRepository.EXPORT_FETCH_SIZE;
+
+    private final EventRepository repository;
+    private final EntityManager entityManager;
+    private final ObjectWriter writer;
+    private final ObjectMapper objectMapper;
+
+    public EventExportService(EventRepository repository, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        // Flush in CLEAR_INTERVAL chunks rather than after every row
+        this.writer = objectMapper.writerFor(Event.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Transactional(readOnly = true)
+    public long exportNdjson(OutputStream out) throws IOException {
+        setLazyQueryExecution(true);
+        try {
+            return writeAll(out);
+        } finally {
+            // The connection goes back to the pool, where other queries expect the default
+            setLazyQueryExecution(false);
+        }
+    }
+
+    private long writeAll(OutputStream out) throws IOException {
+        long count = 0;
+        try (Stream<Event> events = repository.streamAllWithCategory();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            Iterator<Event> rows = events.iterator();
+            while (rows.hasNext()) {
+                writer.writeValue(generator, rows.next());
+                generator.writeRaw('\n');
+                if (++count % CLEAR_INTERVAL == 0) {
+                    generator.flush();
+                    entityManager.clear();
+                }
+            }
+            generator.flush();
+        }
+        return count;
+    }
+
+    private void setLazyQueryExecution(boolean lazy) {
+        // Straight to JDBC: a native update through JPA would evict the second-level cache
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET LAZY_QUERY_EXECUTION " + (lazy ? 1 : 0));
+            }
+        });
+    }
+}
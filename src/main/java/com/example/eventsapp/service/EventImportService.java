@@ -0,0 +1,178 @@
+package com.example.eventsapp.service;
+
+import com.example.eventsapp.dto.EventImportRow;
+import com.example.eventsapp.dto.ImportError;
+import com.example.eventsapp.dto.ImportResult;
+import com.example.eventsapp.model.Category;
+import com.example.eventsapp.model.Event;
+import com.example.eventsapp.repository.CategoryRepository;
+import com.example.eventsapp.search.EventSearchIndex;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.hibernate.Session;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Inserts events in JDBC batches. Each batch runs in its own transaction, resolves
+ * its category names with a single query and is flushed and cleared before the next
+ * one starts. A batch that fails on flush is replayed row by row, so one bad row is
+ * reported on its own instead of taking its neighbours down with it.
+ */
+@Service
+public class EventImportService {
+    public static final int DEFAULT_BATCH_SIZE = 50;
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.emptySchema().withHeader();
+
+    private final CategoryRepository categoryRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate batchTransaction;
+    private final EventSearchIndex searchIndex;
+    private final DataVersion dataVersion;
+    private final ChangeFeed changeFeed;
+    private final CategoryEventCounts eventCounts;
+
+    public EventImportService(CategoryRepository categoryRepository, EntityManager entityManager,
+                              PlatformTransactionManager transactionManager, EventSearchIndex searchIndex,
+                              DataVersion dataVersion, ChangeFeed changeFeed, CategoryEventCounts eventCounts) {
+        this.categoryRepository = categoryRepository;
+        this.entityManager = entityManager;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.searchIndex = searchIndex;
+        this.dataVersion = dataVersion;
+        this.changeFeed = changeFeed;
+        this.eventCounts = eventCounts;
+    }
+
+    public ImportResult importCsv(Reader csv, int batchSize) throws IOException {
+        try (MappingIterator<EventImportRow> rows = CSV_MAPPER.readerFor(EventImportRow.class).with(CSV_SCHEMA).readValues(csv)) {
+            return importEvents(rows.readAll(), batchSize);
+        }
+    }
+
+    public ImportResult importEvents(List<EventImportRow> rows, int batchSize) {
+        int size = Math.max(1, Math.min(batchSize, MAX_BATCH_SIZE));
+        long started = System.nanoTime();
+
+        List<ImportError> errors = new ArrayList<>();
+        int imported = 0;
+        for (int from = 0; from < rows.size(); from += size) {
+            imported += importBatch(rows, from, Math.min(from + size, rows.size()), errors);
+        }
+        if (imported > 0) {
+            dataVersion.eventsChanged();
+            // Too many rows to push one by one; subscribers refetch instead
+            changeFeed.reset();
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        double rowsPerSecond = elapsedNanos == 0 ? 0 : imported * 1_000_000_000.0 / elapsedNanos;
+        return new ImportResult(rows.size(), imported, elapsedNanos / 1_000_000, rowsPerSecond, errors);
+    }
+
+    private int importBatch(List<EventImportRow> rows, int from, int to, List<ImportError> errors) {
+        List<ImportError> rejected = new ArrayList<>();
+        try {
+            Integer saved = batchTransaction.execute(status -> persistBatch(rows, from, to, rejected));
+            errors.addAll(rejected);
+            return saved == null ? 0 : saved;
+        } catch (RuntimeException e) {
+            if (to - from == 1) {
+                errors.add(new ImportError(from + 1, NestedExceptionUtils.getMostSpecificCause(e).getMessage()));
+                return 0;
+            }
+            int saved = 0;
+            for (int i = from; i < to; i++) {
+                saved += importBatch(rows, i, i + 1, errors);
+            }
+            return saved;
+        }
+    }
+
+    private int persistBatch(List<EventImportRow> rows, int from, int to, List<ImportError> rejected) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(to - from);
+
+        Set<String> names = rows.subList(from, to).stream()
+                .map(EventImportRow::getCategory)
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toSet());
+        Map<String, Category> categories = names.isEmpty() ? Map.of()
+                : categoryRepository.findByNameIn(names).stream()
+                        .collect(Collectors.toMap(Category::getName, Function.identity(), (first, second) -> first));
+
+        List<Event> persisted = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            EventImportRow row = rows.get(i);
+            String categoryName = row.getCategory() == null ? "" : row.getCategory().trim();
+            if (row.getTitle() == null || row.getTitle().isBlank()) {
+                rejected.add(new ImportError(i + 1, "Title is required"));
+            } else if (!categoryName.isEmpty() && !categories.containsKey(categoryName)) {
+                rejected.add(new ImportError(i + 1, "Category not found with name: " + categoryName));
+            } else if (!isValidDate(row.getDate())) {
+                rejected.add(new ImportError(i + 1, "Invalid date (expected yyyy-MM-dd): " + row.getDate()));
+            } else {
+                Event event = toEvent(row, categories.get(categoryName));
+                entityManager.persist(event);
+                persisted.add(event);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        persisted.forEach(searchIndex::index);
+        eventCounts.added(persisted.stream()
+                .filter(event -> event.getCategory() != null)
+                .collect(Collectors.groupingBy(event -> event.getCategory().getId(), Collectors.counting())));
+        return persisted.size();
+    }
+
+    // Blank or "TBD" means the event has no date yet
+    private static LocalDate parseDate(String date) {
+        if (date == null || date.isBlank() || date.trim().equalsIgnoreCase("TBD")) {
+            return null;
+        }
+        return LocalDate.parse(date.trim());
+    }
+
+    private static boolean isValidDate(String date) {
+        try {
+            parseDate(date);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private static Event toEvent(EventImportRow row, Category category) {
+        Event event = new Event();
+        event.setType(row.getType());
+        event.setTitle(row.getTitle());
+        event.setDescription(row.getDescription());
+        event.setDate(parseDate(row.getDate()));
+        event.setImage(row.getImage());
+        event.setCategory(category);
+        return event;
+    }
+}
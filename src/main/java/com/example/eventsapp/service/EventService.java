@@ -1,42 +1,315 @@
 package com.example.eventsapp.service;
 
+import com.example.eventsapp.dto.Change;
+import com.example.eventsapp.dto.CursorPage;
+import com.example.eventsapp.dto.EventBatch;
+import com.example.eventsapp.dto.EventSummary;
+import com.example.eventsapp.exception.NotFoundException;
+import com.example.eventsapp.exception.VersionConflictException;
+import com.example.eventsapp.model.Category;
 import com.example.eventsapp.model.Event;
+import com.example.eventsapp.repository.CategoryRepository;
 import com.example.eventsapp.repository.EventRepository;
+import com.example.eventsapp.search.EventSearchIndex;
+import org.springframework.data.domain.PageRequest;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import javax.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Timed("app.service")
 public class EventService {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_BATCH_IDS = 1000;
+    // Ids per IN-list query; Hibernate pads each list to a power of two, so a full chunk is 512 parameters
+    static final int ID_CHUNK_SIZE = 500;
+
     private final EventRepository repository;
+    private final CategoryRepository categoryRepository;
+    private final EventSearchIndex searchIndex;
+    private final DataVersion dataVersion;
+    private final ChangeFeed changeFeed;
+    private final CategoryEventCounts eventCounts;
+    private final CategoryService categoryService;
+    private final EntityManagerFactory entityManagerFactory;
+    // Keyed by the events version, so a caller that has already seen a newer version
+    // never joins a load started before that write
+    private final SingleFlight<List<Object>, Event> eventLoads = new SingleFlight<>();
+    // Same for list pages, keyed by the decoded position so equivalent cursors share a load
+    private final SingleFlight<List<Object>, CursorPage<EventSummary>> pageLoads = new SingleFlight<>();
 
-    public EventService(EventRepository repository) {
+    public EventService(EventRepository repository, CategoryRepository categoryRepository, EventSearchIndex searchIndex,
+                        DataVersion dataVersion, ChangeFeed changeFeed, CategoryEventCounts eventCounts,
+                        CategoryService categoryService, EntityManagerFactory entityManagerFactory) {
         this.repository = repository;
+        this.categoryRepository = categoryRepository;
+        this.searchIndex = searchIndex;
+        this.dataVersion = dataVersion;
+        this.changeFeed = changeFeed;
+        this.eventCounts = eventCounts;
+        this.categoryService = categoryService;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Summaries of scheduled events dated within {@code [from, to]}, a page at a time in
+     * (date, id) order; the cursor holds the last date and id returned. Either bound may
+     * be null to leave that side open, but not both.
+     */
+    public CursorPage<EventSummary> getEventsBetween(LocalDate from, LocalDate to, String cursor, int size) {
+        if (from == null && to == null) {
+            throw new IllegalArgumentException("from or to is required");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        LocalDate afterDate = from;
+        long afterId = 0L;
+        if (cursor != null && !cursor.isEmpty()) {
+            String[] position = decodePosition(cursor).split(",", 2);
+            try {
+                LocalDate lastDate = LocalDate.parse(position[0]);
+                // A cursor from before the range starts the range over
+                if (from == null || !lastDate.isBefore(from)) {
+                    afterDate = lastDate;
+                    afterId = Long.parseLong(position[1]);
+                }
+            } catch (DateTimeException | NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+        }
+
+        LocalDate seekDate = afterDate;
+        long seekId = afterId;
+        return pageLoads.load(Arrays.asList(dataVersion.events(), seekDate, seekId, to, limit), () -> {
+            PageRequest window = PageRequest.of(0, limit + 1);
+            List<EventSummary> rows;
+            if (seekDate == null) {
+                rows = repository.findSummariesByDateUpTo(to, window);
+            } else if (to == null) {
+                rows = repository.findSummariesByDateAfter(seekDate, seekId, window);
+            } else {
+                rows = repository.findSummariesByDateAfterUpTo(seekDate, seekId, to, window);
+            }
+            if (rows.size() <= limit) {
+                return new CursorPage<>(rows, null);
+            }
+            List<EventSummary> items = rows.subList(0, limit);
+            EventSummary last = items.get(limit - 1);
+            return new CursorPage<>(items, encodePosition(last.getDate() + "," + last.getId()));
+        });
+    }
+
+    public List<EventSummary> getUpcomingEvents(int limit) {
+        return repository.findSummariesFrom(LocalDate.now(), PageRequest.of(0, Math.max(1, Math.min(limit, MAX_PAGE_SIZE))));
     }
 
-    public List<Event> getAllEvents() {
-        return repository.findAll();
+    public CursorPage<EventSummary> getEventsPage(Long categoryId, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        long afterId = cursor == null || cursor.isEmpty() ? 0L : decodeCursor(cursor);
+
+        return pageLoads.load(Arrays.asList(dataVersion.events(), categoryId, afterId, limit), () -> {
+            // Fetch one extra row to learn whether another page exists
+            PageRequest window = PageRequest.of(0, limit + 1);
+            List<EventSummary> rows = categoryId == null
+                    ? repository.findSummariesAfter(afterId, window)
+                    : repository.findSummariesByCategoryAfter(categoryId, afterId, window);
+            if (rows.size() <= limit) {
+                return new CursorPage<>(rows, null);
+            }
+            List<EventSummary> items = rows.subList(0, limit);
+            return new CursorPage<>(items, encodeCursor(items.get(limit - 1).getId()));
+        });
     }
 
+    public List<EventSummary> searchEvents(String query, int limit) {
+        List<Long> ids = searchIndex.search(query, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, EventSummary> byId = repository.findSummariesByIds(ids).stream()
+                .collect(Collectors.toMap(EventSummary::getId, Function.identity()));
+        // Keep the index's ranking; skip ids deleted since the index answered
+        return ids.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    /**
+     * Loads many events by id with one IN-list query per {@link #ID_CHUNK_SIZE} distinct
+     * ids. Events come back in the order of the ids asked for, each once; ids that match
+     * no event are reported in {@code missingIds}, in the same order.
+     */
+    public EventBatch getEvents(List<Long> ids) {
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Event ids must not be null");
+        }
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (distinct.size() > MAX_BATCH_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_IDS + " event ids can be fetched at once");
+        }
+        Map<Long, Event> byId = new HashMap<>();
+        for (int from = 0; from < distinct.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = distinct.subList(from, Math.min(from + ID_CHUNK_SIZE, distinct.size()));
+            repository.findAllById(chunk).forEach(event -> byId.put(event.getId(), withCategory(event)));
+        }
+        List<Event> events = new ArrayList<>(byId.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : distinct) {
+            Event event = byId.get(id);
+            if (event != null) {
+                events.add(event);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new EventBatch(events, missingIds);
+    }
+
+    /**
+     * Concurrent calls for the same id share one lookup and the event it returns, which
+     * callers must not modify.
+     */
     public Event getEvent(Long id) {
-        return repository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Event not found with id: " + id));
+        return eventLoads.load(List.of(dataVersion.events(), id), () -> repository.findById(id)
+                .map(this::withCategory)
+                .orElseThrow(() -> new NotFoundException("Event not found with id: " + id)));
     }
 
+    /**
+     * Only the id of the event's category is read; the category is attached as a
+     * reference and never created or modified through the event.
+     */
     public Event createEvent(Event event) {
-        return repository.save(event);
+        if (event != null && event.getCategory() != null) {
+            event.setCategory(categoryReference(event.getCategory()));
+        }
+        Event saved = withCategory(repository.save(event));
+        searchIndex.index(saved);
+        dataVersion.eventsChanged();
+        changeFeed.publish(Change.eventCreated(saved));
+        eventCounts.moved(null, categoryId(saved.getCategory()));
+        return saved;
     }
 
+    /**
+     * Applies the update in a single statement. When the event carries a version the
+     * write only succeeds against that version; without one it overwrites whatever
+     * is stored. The returned event has the version the row now holds, or none if
+     * the client did not send one. The row's current category is read (and locked)
+     * first so the per-category counts follow a category change.
+     */
+    @Transactional
     public Event updateEvent(Event event) {
-        if (!repository.existsById(event.getId())) {
-            throw new RuntimeException("Event not found with id: " + event.getId());
+        Category category = event.getCategory() == null ? null : categoryReference(event.getCategory());
+        Long previousCategoryId = repository.findCategoryIdForUpdate(event.getId());
+        int updated = event.getVersion() == null
+                ? repository.updateIfPresent(event, category)
+                : repository.updateIfCurrent(event, category);
+        if (updated == 0) {
+            throw missingOrStale(event.getId(), event.getVersion());
+        }
+        evictCached(event.getId());
+        if (event.getVersion() != null) {
+            event.setVersion(event.getVersion() + 1);
         }
-        return repository.save(event);
+        withCategory(event);
+        searchIndex.index(event);
+        dataVersion.eventsChanged();
+        changeFeed.publish(Change.eventUpdated(event));
+        eventCounts.moved(previousCategoryId, categoryId(category));
+        return event;
+    }
+
+    @Transactional
+    public void deleteEvent(Long id, Long version) {
+        Long categoryId = repository.findCategoryIdForUpdate(id);
+        int deleted = version == null ? repository.deleteIfPresent(id) : repository.deleteIfCurrent(id, version);
+        if (deleted == 0) {
+            throw missingOrStale(id, version);
+        }
+        evictCached(id);
+        searchIndex.remove(id);
+        dataVersion.eventsChanged();
+        changeFeed.publish(Change.eventDeleted(id));
+        eventCounts.moved(categoryId, null);
+    }
+
+    // The single-statement writes leave the events region alone (see EventRepository), so
+    // only this entry goes; again after commit, in case a concurrent read cached the old row
+    private void evictCached(Long id) {
+        entityManagerFactory.getCache().evict(Event.class, id);
+        TransactionCallbacks.afterCommit(() -> entityManagerFactory.getCache().evict(Event.class, id));
+    }
+
+    // Checked against the category registry, so attaching a category costs no query;
+    // the foreign key still rejects a category deleted in the meantime
+    private Category categoryReference(Category category) {
+        if (category.getId() == null) {
+            throw new IllegalArgumentException("Category must reference an existing category id");
+        }
+        if (!categoryService.exists(category.getId())) {
+            throw new IllegalArgumentException("Category not found with id: " + category.getId());
+        }
+        return categoryRepository.getReferenceById(category.getId());
+    }
+
+    // Events load their category lazily; the registry's copy replaces the proxy, so
+    // reads neither join nor select categories (a proxy hands out its id unloaded)
+    private Event withCategory(Event event) {
+        if (event.getCategory() != null) {
+            event.setCategory(categoryService.getCategory(event.getCategory().getId()));
+        }
+        return event;
+    }
+
+    private static Long categoryId(Category category) {
+        return category == null ? null : category.getId();
+    }
+
+    // Only the failed path pays for a second statement, to tell the two outcomes apart
+    private RuntimeException missingOrStale(Long id, Long version) {
+        if (version != null && repository.existsById(id)) {
+            return new VersionConflictException("Event " + id + " was modified after version " + version);
+        }
+        return new NotFoundException("Event not found with id: " + id);
+    }
+
+    private static String encodeCursor(Long lastId) {
+        return encodePosition(String.valueOf(lastId));
+    }
+
+    private static long decodeCursor(String cursor) {
+        try {
+            return Long.parseLong(decodePosition(cursor));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private static String encodePosition(String position) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
     }
 
-    public void deleteEvent(Long id) {
-        if (!repository.existsById(id)) {
-            throw new RuntimeException("Event not found with id: " + id);
+    private static String decodePosition(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
         }
-        repository.deleteById(id);
     }
-} 
\ No newline at end of file
+}
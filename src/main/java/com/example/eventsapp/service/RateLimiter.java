@@ -0,0 +1,179 @@
+package com.example.eventsapp.service;
+
+import com.example.eventsapp.exception.RateLimitedException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A token bucket per client for the write endpoints: each client may send a burst of
+ * writes, then ratePerSecond on average. A bucket is one AtomicLong holding the time at
+ * which it will be full again (the generic cell rate algorithm), so admitting a request
+ * is a map lookup and a compare-and-set, with no lock. Buckets left full for the idle
+ * eviction time are dropped by a background sweep, and at most maxClients are kept:
+ * clients arriving while the map is full share one overflow bucket until the sweep
+ * makes room, so a flood of new client keys cannot grow memory without bound.
+ */
+@Component
+public class RateLimiter implements MeterBinder {
+    private final boolean enabled;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final long idleNanos;
+    private final int maxClients;
+    private final LongSupplier clock;
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    // Reserved before a bucket is added, so the cap holds under concurrent arrivals
+    private final AtomicInteger tracked = new AtomicInteger();
+    private final AtomicLong overflow = new AtomicLong(Long.MIN_VALUE);
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+    private ScheduledExecutorService sweeper;
+
+    @Autowired
+    public RateLimiter(@Value("${app.rate-limit.enabled:true}") boolean enabled,
+                       @Value("${app.rate-limit.rate-per-second:10}") double ratePerSecond,
+                       @Value("${app.rate-limit.burst:20}") int burst,
+                       @Value("${app.rate-limit.idle-eviction:10m}") Duration idleEviction,
+                       @Value("${app.rate-limit.max-clients:100000}") int maxClients) {
+        this(enabled, ratePerSecond, burst, idleEviction, maxClients, System::nanoTime);
+    }
+
+    RateLimiter(boolean enabled, double ratePerSecond, int burst, Duration idleEviction, int maxClients,
+                LongSupplier clock) {
+        if (ratePerSecond <= 0 || burst < 1 || maxClients < 1) {
+            throw new IllegalArgumentException("Rate limit needs a positive rate, a burst of at least 1 and room for a client");
+        }
+        this.enabled = enabled;
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        this.burstNanos = intervalNanos * burst;
+        this.idleNanos = idleEviction.toNanos();
+        this.maxClients = maxClients;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(idleNanos / 2, TimeUnit.SECONDS.toNanos(1));
+        sweeper.scheduleAtFixedRate(this::evictIdle, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    /**
+     * Takes a token from the client's bucket, or throws {@link RateLimitedException} with
+     * the time until one is available.
+     */
+    public void acquire(String client) {
+        long waitNanos = tryAcquire(client);
+        if (waitNanos > 0) {
+            throw new RateLimitedException("Too many writes, retry later",
+                    Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1)));
+        }
+    }
+
+    // 0 when admitted, otherwise how long until the next token
+    long tryAcquire(String client) {
+        if (!enabled) {
+            return 0;
+        }
+        AtomicLong bucket = buckets.get(client);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(client, this::newBucket);
+        }
+        if (bucket == null) {
+            overflowed.increment();
+            bucket = overflow;
+        }
+        while (true) {
+            long fullAt = bucket.get();
+            // Read after the bucket, so a thread delayed here never sees another's newer
+            // state against an older clock and mistakes the gap for debt
+            long now = clock.getAsLong();
+            // A full bucket counts from now; the nanoTime origin is arbitrary, hence the subtraction
+            long next = (fullAt == Long.MIN_VALUE || fullAt - now < 0 ? now : fullAt) + intervalNanos;
+            long debt = next - now;
+            if (debt > burstNanos) {
+                rejected.increment();
+                return debt - burstNanos;
+            }
+            if (bucket.compareAndSet(fullAt, next)) {
+                admitted.increment();
+                return 0;
+            }
+        }
+    }
+
+    // Null, so no mapping is added, when the map is full
+    private AtomicLong newBucket(String client) {
+        if (tracked.incrementAndGet() > maxClients) {
+            tracked.decrementAndGet();
+            return null;
+        }
+        return new AtomicLong(Long.MIN_VALUE);
+    }
+
+    // A request racing with eviction may update a bucket just removed; the client then
+    // starts over with a full bucket, which errs on the side of admitting
+    void evictIdle() {
+        long now = clock.getAsLong();
+        buckets.forEach((client, bucket) -> {
+            long fullAt = bucket.get();
+            if ((fullAt == Long.MIN_VALUE || now - fullAt >= idleNanos) && buckets.remove(client, bucket)) {
+                tracked.decrementAndGet();
+                evicted.increment();
+            }
+        });
+    }
+
+    public int getClientCount() { return buckets.size(); }
+    public long getAdmittedCount() { return admitted.sum(); }
+    public long getRejectedCount() { return rejected.sum(); }
+    public long getEvictedCount() { return evicted.sum(); }
+    public long getOverflowCount() { return overflowed.sum(); }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("rate.limit.clients", this, RateLimiter::getClientCount).register(registry);
+        FunctionCounter.builder("rate.limit.requests", this, RateLimiter::getAdmittedCount)
+                .tag("outcome", "admitted")
+                .register(registry);
+        FunctionCounter.builder("rate.limit.requests", this, RateLimiter::getRejectedCount)
+                .tag("outcome", "rejected")
+                .register(registry);
+        FunctionCounter.builder("rate.limit.evicted", this, RateLimiter::getEvictedCount).register(registry);
+        FunctionCounter.builder("rate.limit.overflow", this, RateLimiter::getOverflowCount).register(registry);
+    }
+}
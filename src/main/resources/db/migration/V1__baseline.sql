@@ -0,0 +1,24 @@
+-- The schema as Hibernate generated it before event dates were typed; V2 converts the
+-- date column. Ids come from pooled sequences (see Event and Category).
+CREATE SEQUENCE category_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE event_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE category (
+    id BIGINT NOT NULL PRIMARY KEY,
+    name VARCHAR(255),
+    version BIGINT
+);
+
+CREATE TABLE event (
+    id BIGINT NOT NULL PRIMARY KEY,
+    date VARCHAR(255),
+    description VARCHAR(20000),
+    image VARCHAR(500),
+    title VARCHAR(255),
+    type VARCHAR(255),
+    version BIGINT,
+    category_id BIGINT,
+    CONSTRAINT fk_event_category FOREIGN KEY (category_id) REFERENCES category (id)
+);
+
+CREATE INDEX idx_event_category_id ON event (category_id, id);
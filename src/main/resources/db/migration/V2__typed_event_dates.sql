@@ -0,0 +1,21 @@
+-- Converts event.date from free-form VARCHAR to DATE for databases created before dates
+-- were typed. ISO dates (yyyy-MM-dd) carry over; anything else ("TBD", blanks, other
+-- formats, days the month does not have) becomes NULL, which the application treats
+-- as unscheduled.
+ALTER TABLE event ADD COLUMN event_date DATE;
+
+-- Built from the first of the month, which always exists, so no row can fail the cast
+-- and abort the migration
+UPDATE event
+SET event_date = DATEADD(DAY, CAST(RIGHT(TRIM(date), 2) AS INT) - 1, CAST(LEFT(TRIM(date), 8) || '01' AS DATE))
+WHERE REGEXP_LIKE(TRIM(date), '^[0-9]{4}-(0[1-9]|1[0-2])-(0[1-9]|[12][0-9]|3[01])$');
+
+-- Impossible days (2025-02-30, 2023-02-29) rolled over into the next month
+UPDATE event
+SET event_date = NULL
+WHERE CAST(event_date AS VARCHAR) <> TRIM(date);
+
+ALTER TABLE event DROP COLUMN date;
+ALTER TABLE event ALTER COLUMN event_date RENAME TO date;
+
+CREATE INDEX idx_event_date ON event (date, id);
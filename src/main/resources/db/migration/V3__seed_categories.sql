@@ -0,0 +1,14 @@
+-- The categories the frontend offers, with the ids data.sql uses in development. The
+-- sequence moves past them so the first pooled block (51..100) cannot collide.
+INSERT INTO category (id, name, version) VALUES
+(1, 'travel', 0),
+(2, 'entertainment', 0),
+(3, 'sports', 0),
+(4, 'education', 0),
+(5, 'food', 0),
+(6, 'music', 0),
+(7, 'art', 0),
+(8, 'business', 0),
+(9, 'technology', 0);
+
+ALTER SEQUENCE category_seq RESTART WITH 100;
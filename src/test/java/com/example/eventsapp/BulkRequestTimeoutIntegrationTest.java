@@ -0,0 +1,96 @@
+package com.example.eventsapp;
+
+import com.example.eventsapp.dto.ImportResult;
+import com.example.eventsapp.service.EventExportService;
+import com.example.eventsapp.service.EventImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+// Runs against the embedded server, since the async request timeout is enforced by Tomcat
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulk-timeout;DB_CLOSE_DELAY=-1",
+        "spring.mvc.async.request-timeout=" + BulkRequestTimeoutIntegrationTest.REQUEST_TIMEOUT_MILLIS + "ms"})
+public class BulkRequestTimeoutIntegrationTest {
+    static final int REQUEST_TIMEOUT_MILLIS = 200;
+    // Tomcat checks for timed-out requests about once a second, so the work must outlast that
+    private static final long WORK_MILLIS = 2000;
+    private static final int ROWS = 20;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @MockBean
+    private EventExportService exportService;
+
+    @MockBean
+    private EventImportService importService;
+
+    @Test
+    void exportEvents_LongerThanRequestTimeout_ShouldStreamEveryRow() throws Exception {
+        // Arrange: rows trickle out over many request timeouts
+        when(exportService.exportNdjson(any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0, OutputStream.class);
+            for (int i = 1; i <= ROWS; i++) {
+                out.write(("{\"id\":" + i + "}\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                Thread.sleep(WORK_MILLIS / ROWS);
+            }
+            return (long) ROWS;
+        });
+
+        // Act
+        long started = System.nanoTime();
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/events/export")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        // Assert
+        assertEquals(200, response.statusCode());
+        assertTrue(elapsedMillis >= WORK_MILLIS, "export took " + elapsedMillis + " ms");
+        List<String> lines = response.body().lines().collect(Collectors.toList());
+        assertEquals(ROWS, lines.size());
+        assertEquals("{\"id\":" + ROWS + "}", lines.get(ROWS - 1));
+    }
+
+    @Test
+    void importEvents_LongerThanRequestTimeout_ShouldReturnTheReport() throws Exception {
+        // Arrange
+        when(importService.importEvents(anyList(), anyInt())).thenAnswer(invocation -> {
+            Thread.sleep(WORK_MILLIS);
+            return new ImportResult(1, 1, WORK_MILLIS, 0.5, List.of());
+        });
+
+        // Act
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/events/import"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("[{\"type\":\"concert\",\"title\":\"Slow\"}]"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        // Assert
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("\"imported\":1"), response.body());
+    }
+}
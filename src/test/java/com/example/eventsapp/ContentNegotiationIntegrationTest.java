@@ -0,0 +1,101 @@
+package com.example.eventsapp;
+
+import com.example.eventsapp.model.Event;
+import com.example.eventsapp.service.EventService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs against the embedded server, since response compression happens in Tomcat
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:negotiation;DB_CLOSE_DELAY=-1")
+public class ContentNegotiationIntegrationTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long eventId;
+
+    @BeforeEach
+    void setUp() {
+        Event event = new Event();
+        event.setType("concert");
+        event.setTitle("Long read");
+        event.setDescription("A very long description. ".repeat(200));
+        eventId = eventService.createEvent(event).getId();
+    }
+
+    @Test
+    void getEvent_AcceptingCbor_ShouldReturnTheSameFieldsAsJson() throws Exception {
+        // Act
+        HttpResponse<byte[]> cbor = get("/api/events/" + eventId, "application/cbor", null);
+        HttpResponse<byte[]> json = get("/api/events/" + eventId, "application/json", null);
+
+        // Assert
+        assertEquals(200, cbor.statusCode());
+        assertEquals("application/cbor", cbor.headers().firstValue("Content-Type").orElseThrow());
+        assertTrue(List.of(String.join(",", cbor.headers().allValues("Vary")).toLowerCase().split(",")).contains("accept"));
+        JsonNode decoded = new CBORMapper().readTree(cbor.body());
+        assertEquals(objectMapper.readTree(json.body()), decoded);
+        assertTrue(decoded.get("date").isNull());
+    }
+
+    @Test
+    void getCategories_AcceptingSmile_ShouldReturnSmile() throws Exception {
+        // Act
+        HttpResponse<byte[]> smile = get("/api/categories", "application/x-jackson-smile", null);
+
+        // Assert
+        assertEquals(200, smile.statusCode());
+        assertEquals("application/x-jackson-smile", smile.headers().firstValue("Content-Type").orElseThrow());
+        JsonNode categories = new SmileMapper().readTree(smile.body());
+        assertTrue(categories.isArray());
+        assertEquals("travel", categories.get(0).get("name").asText());
+    }
+
+    @Test
+    void getEvents_AcceptingGzip_ShouldCompressBinaryResponses() throws Exception {
+        // Act
+        HttpResponse<byte[]> compressed = get("/api/events", "application/cbor", "gzip");
+
+        // Assert
+        assertEquals("gzip", compressed.headers().firstValue("Content-Encoding").orElseThrow());
+        JsonNode page = new CBORMapper().readTree(new GZIPInputStream(new ByteArrayInputStream(compressed.body())));
+        assertTrue(page.get("items").size() >= 1);
+    }
+
+    private HttpResponse<byte[]> get(String path, String accept, String acceptEncoding)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept", accept);
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.eventsapp;
+
+import com.example.eventsapp.model.Category;
+import com.example.eventsapp.model.Event;
+import com.example.eventsapp.service.CategoryService;
+import com.example.eventsapp.service.EventService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DurableDatastoreIntegrationTest {
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    void prodProfile_ShouldMigrateTheSchemaAndKeepEventsAcrossRestarts() {
+        // Arrange
+        Long id;
+        try (ConfigurableApplicationContext context = start()) {
+            assertTrue(Files.exists(dataDir.resolve("events.mv.db")));
+            assertEquals("3", context.getBean(Flyway.class).info().current().getVersion().getVersion());
+            assertEquals(9, context.getBean(CategoryService.class).getAllCategories().size());
+            Event event = new Event();
+            event.setType("concert");
+            event.setTitle("Survives restarts");
+            event.setDate(LocalDate.of(2025, 6, 1));
+            Category category = new Category();
+            category.setId(1L);
+            event.setCategory(category);
+            id = context.getBean(EventService.class).createEvent(event).getId();
+        }
+
+        // Act
+        try (ConfigurableApplicationContext context = start()) {
+            Event event = context.getBean(EventService.class).getEvent(id);
+
+            // Assert
+            assertEquals("Survives restarts", event.getTitle());
+            assertEquals(LocalDate.of(2025, 6, 1), event.getDate());
+            assertEquals("travel", event.getCategory().getName());
+        }
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(App.class)
+                .web(WebApplicationType.NONE)
+                .profiles("prod")
+                .properties("app.datastore.path=" + dataDir.resolve("events"))
+                .run();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.eventsapp;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventDateMigrationTest {
+
+    @Test
+    void migration_ShouldConvertIsoStringsAndMarkTheRestUnscheduled() throws Exception {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:date-migration", "sa", "");
+             Statement statement = connection.createStatement()) {
+            // Arrange: the event table as it was with a free-form date column
+            statement.execute("CREATE TABLE event (id BIGINT PRIMARY KEY, title VARCHAR(255), date VARCHAR(255))");
+            statement.execute("INSERT INTO event VALUES (1, 'Dated', '2025-06-29'), (2, 'Chat', 'TBD'), "
+                    + "(3, 'Padded', ' 2025-07-15 '), (4, 'Empty', NULL), (5, 'Other format', '29/06/2025')");
+
+            // Act
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/V2__typed_event_dates.sql"));
+
+            // Assert
+            try (ResultSet rows = statement.executeQuery("SELECT id, date FROM event ORDER BY id")) {
+                assertTrue(rows.next());
+                assertEquals(LocalDate.of(2025, 6, 29), rows.getObject("date", LocalDate.class));
+                assertTrue(rows.next());
+                assertNull(rows.getObject("date"));
+                assertTrue(rows.next());
+                assertEquals(LocalDate.of(2025, 7, 15), rows.getObject("date", LocalDate.class));
+                assertTrue(rows.next());
+                assertNull(rows.getObject("date"));
+                assertTrue(rows.next());
+                assertNull(rows.getObject("date"));
+            }
+            try (ResultSet index = connection.getMetaData().getIndexInfo(null, null, "EVENT", false, false)) {
+                boolean found = false;
+                while (index.next()) {
+                    found |= "IDX_EVENT_DATE".equals(index.getString("INDEX_NAME"));
+                }
+                assertTrue(found);
+            }
+        }
+    }
+
+    @Test
+    void migration_ShouldMarkDaysTheMonthDoesNotHaveUnscheduled() throws Exception {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:date-migration-calendar", "sa", "");
+             Statement statement = connection.createStatement()) {
+            // Arrange
+            statement.execute("CREATE TABLE event (id BIGINT PRIMARY KEY, title VARCHAR(255), date VARCHAR(255))");
+            statement.execute("INSERT INTO event VALUES (1, 'February 30', '2025-02-30'), (2, 'April 31', '2025-04-31'), "
+                    + "(3, 'Not a leap year', '2023-02-29'), (4, 'Leap year', '2024-02-29'), "
+                    + "(5, 'Century', '1900-02-29'), (6, 'Fourth century', '2000-02-29'), (7, 'Month end', '2025-12-31')");
+
+            // Act
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/V2__typed_event_dates.sql"));
+
+            // Assert
+            try (ResultSet rows = statement.executeQuery("SELECT id, date FROM event ORDER BY id")) {
+                assertTrue(rows.next());
+                assertNull(rows.getObject("date"));
+                assertTrue(rows.next());
+                assertNull(rows.getObject("date"));
+                assertTrue(rows.next());
+                assertNull(rows.getObject("date"));
+                assertTrue(rows.next());
+                assertEquals(LocalDate.of(2024, 2, 29), rows.getObject("date", LocalDate.class));
+                assertTrue(rows.next());
+                assertNull(rows.getObject("date"));
+                assertTrue(rows.next());
+                assertEquals(LocalDate.of(2000, 2, 29), rows.getObject("date", LocalDate.class));
+                assertTrue(rows.next());
+                assertEquals(LocalDate.of(2025, 12, 31), rows.getObject("date", LocalDate.class));
+            }
+        }
+    }
+}
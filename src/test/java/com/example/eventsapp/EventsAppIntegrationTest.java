@@ -5,6 +5,8 @@ import com.example.eventsapp.config.JpaConfig;
 import com.example.eventsapp.model.Category;
 import com.example.eventsapp.repository.EventRepository;
 import com.example.eventsapp.repository.CategoryRepository;
+import com.example.eventsapp.search.EventSearchIndex;
+import com.example.eventsapp.service.EventExportService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,10 +17,18 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -41,6 +51,12 @@ public class EventsAppIntegrationTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private EventSearchIndex eventSearchIndex;
+
+    @Autowired
+    private EventExportService exportService;
+
     private MockMvc mockMvc;
     private Category testCategory;
     private Event testEvent;
@@ -56,14 +72,15 @@ public class EventsAppIntegrationTest {
         // Create test category
         testCategory = new Category();
         testCategory.setName("Test Category");
-        testCategory = categoryRepository.save(testCategory);
+        // Flushed so the insert reaches the category registry, which event writes validate against
+        testCategory = categoryRepository.saveAndFlush(testCategory);
 
         // Create test event
         testEvent = new Event();
         testEvent.setTitle("Test Event");
         testEvent.setType("concert");
         testEvent.setDescription("A test event for integration testing");
-        testEvent.setDate("2024-12-25");
+        testEvent.setDate(LocalDate.of(2024, 12, 25));
         testEvent.setImage("test-image.jpg");
         testEvent.setCategory(testCategory);
         testEvent = eventRepository.save(testEvent);
@@ -75,18 +92,180 @@ public class EventsAppIntegrationTest {
     }
 
     @Test
-    void getAllEvents_ShouldReturnEvents() throws Exception {
-        mockMvc.perform(get("/api/events"))
+    void getAllEvents_ShouldReturnFirstPageOfSummaries() throws Exception {
+        perform(get("/api/events"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.items[0].id").value(testEvent.getId()))
+                .andExpect(jsonPath("$.items[0].title").value("Test Event"))
+                .andExpect(jsonPath("$.items[0].type").value("concert"))
+                .andExpect(jsonPath("$.items[0].version").value(testEvent.getVersion()))
+                .andExpect(jsonPath("$.items[0].description").doesNotExist());
+    }
+
+    @Test
+    void getEventsByIds_ShouldReturnEventsInRequestOrder() throws Exception {
+        Event second = new Event();
+        second.setTitle("Second Event");
+        second.setType("movie");
+        second = eventRepository.save(second);
+        long missing = second.getId() + 1000;
+
+        perform(post("/api/events/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + second.getId() + "," + missing + "," + testEvent.getId() + "]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events.length()").value(2))
+                .andExpect(jsonPath("$.events[0].id").value(second.getId()))
+                .andExpect(jsonPath("$.events[1].id").value(testEvent.getId()))
+                .andExpect(jsonPath("$.events[1].category.name").value("Test Category"))
+                .andExpect(jsonPath("$.missingIds[0]").value(missing));
+    }
+
+    @Test
+    void getEventsPage_ShouldWalkAllEventsWithCursor() throws Exception {
+        Event second = new Event();
+        second.setTitle("Second Event");
+        second.setType("movie");
+        second.setDate(LocalDate.of(2024, 12, 26));
+        second = eventRepository.save(second);
+
+        String body = perform(get("/api/events/page").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(testEvent.getId()))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+        perform(get("/api/events/page").param("size", "1").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(second.getId()))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getEventsPage_WithCategoryId_ShouldReturnOnlyThatCategory() throws Exception {
+        Event uncategorized = new Event();
+        uncategorized.setTitle("Uncategorized Event");
+        uncategorized.setType("event");
+        eventRepository.save(uncategorized);
+
+        perform(get("/api/events/page").param("categoryId", testCategory.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(testEvent.getId()));
+    }
+
+    @Test
+    void getEventsPage_ShouldReturnSummariesWithTruncatedSnippet() throws Exception {
+        testEvent.setDescription("x".repeat(5000));
+        eventRepository.saveAndFlush(testEvent);
+
+        perform(get("/api/events/page"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].category.name").value("Test Category"))
+                .andExpect(jsonPath("$.items[0].snippet").value("x".repeat(200)))
+                .andExpect(jsonPath("$.items[0].description").doesNotExist());
+    }
+
+    @Test
+    void searchEvents_ShouldFindEventsByTitleAndDescription() throws Exception {
+        eventSearchIndex.rebuild();
+
+        perform(get("/api/events/search").param("q", "integration testing"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
                 .andExpect(jsonPath("$[0].id").value(testEvent.getId()))
-                .andExpect(jsonPath("$[0].title").value("Test Event"))
-                .andExpect(jsonPath("$[0].type").value("concert"));
+                .andExpect(jsonPath("$[0].title").value("Test Event"));
+    }
+
+    @Test
+    void getEventsPage_WithDateRange_ShouldWalkSameDayEventsWithCursor() throws Exception {
+        Event sameDay = new Event();
+        sameDay.setTitle("Same Day Event");
+        sameDay.setType("movie");
+        sameDay.setDate(testEvent.getDate());
+        sameDay = eventRepository.save(sameDay);
+
+        String body = perform(get("/api/events/page").param("from", testEvent.getDate().toString()).param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(testEvent.getId()))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+        perform(get("/api/events/page").param("from", testEvent.getDate().toString()).param("size", "1").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(sameDay.getId()))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getEventsPage_WithDateRange_ShouldReturnOnlyEventsInRange() throws Exception {
+        Event later = new Event();
+        later.setTitle("Later Event");
+        later.setType("concert");
+        later.setDate(LocalDate.of(2025, 3, 1));
+        later.setCategory(testCategory);
+        eventRepository.save(later);
+        Event unscheduled = new Event();
+        unscheduled.setTitle("Unscheduled Event");
+        unscheduled.setType("custom");
+        eventRepository.save(unscheduled);
+
+        perform(get("/api/events/page").param("from", "2025-01-01").param("to", "2025-12-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("Later Event"))
+                .andExpect(jsonPath("$.items[0].description").doesNotExist());
+
+        perform(get("/api/events/page").param("to", "2024-12-31"))
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(testEvent.getId()));
+
+        perform(get("/api/events"))
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(jsonPath("$.items[2].unscheduled").value(true));
+    }
+
+    @Test
+    void exportNdjson_ShouldStreamEveryEventFromALazyCursor() throws Exception {
+        Event second = new Event();
+        second.setTitle("Second Event");
+        second.setCategory(testCategory);
+        eventRepository.save(second);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = exportService.exportNdjson(out);
+
+        assertEquals(2, count);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(testEvent.getId(), objectMapper.readTree(lines[0]).get("id").asLong());
+        assertEquals("Second Event", objectMapper.readTree(lines[1]).get("title").asText());
+    }
+
+    @Test
+    void getUpcomingEvents_ShouldReturnFutureEventsSoonestFirst() throws Exception {
+        Event nextMonth = new Event();
+        nextMonth.setTitle("Next Month");
+        nextMonth.setDate(LocalDate.now().plusMonths(1));
+        eventRepository.save(nextMonth);
+        Event tomorrow = new Event();
+        tomorrow.setTitle("Tomorrow");
+        tomorrow.setDate(LocalDate.now().plusDays(1));
+        eventRepository.save(tomorrow);
+
+        perform(get("/api/events/upcoming").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("Tomorrow"))
+                .andExpect(jsonPath("$[1].title").value("Next Month"));
     }
 
     @Test
     void getEvent_WithValidId_ShouldReturnEvent() throws Exception {
-        mockMvc.perform(get("/api/events/" + testEvent.getId()))
+        perform(get("/api/events/" + testEvent.getId()))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id").value(testEvent.getId()))
@@ -96,8 +275,9 @@ public class EventsAppIntegrationTest {
 
     @Test
     void getEvent_WithInvalidId_ShouldReturnError() throws Exception {
-        mockMvc.perform(get("/api/events/999"))
-                .andExpect(status().isInternalServerError());
+        perform(get("/api/events/999"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Event not found with id: 999"));
     }
 
     @Test
@@ -106,19 +286,20 @@ public class EventsAppIntegrationTest {
         newEvent.setTitle("New Integration Event");
         newEvent.setType("movie");
         newEvent.setDescription("A new event created through integration test");
-        newEvent.setDate("2024-12-26");
+        newEvent.setDate(LocalDate.of(2024, 12, 26));
         
-        // Create a new category without ID to avoid detached entity error
-        Category newCategory = new Category();
-        newCategory.setName("New Category for Event");
-        newEvent.setCategory(newCategory);
+        // Existing categories are referenced by id
+        Category reference = new Category();
+        reference.setId(testCategory.getId());
+        newEvent.setCategory(reference);
 
-        mockMvc.perform(post("/api/events")
+        perform(post("/api/events")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(newEvent)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.title").value("New Integration Event"))
-                .andExpect(jsonPath("$.type").value("movie"));
+                .andExpect(jsonPath("$.type").value("movie"))
+                .andExpect(jsonPath("$.category.name").value("Test Category"));
     }
 
     @Test
@@ -127,10 +308,10 @@ public class EventsAppIntegrationTest {
         updatedEvent.setTitle("Updated Integration Event");
         updatedEvent.setType("event");
         updatedEvent.setDescription("An updated event through integration test");
-        updatedEvent.setDate("2024-12-27");
+        updatedEvent.setDate(LocalDate.of(2024, 12, 27));
         updatedEvent.setCategory(testCategory);
 
-        mockMvc.perform(put("/api/events/" + testEvent.getId())
+        perform(put("/api/events/" + testEvent.getId())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updatedEvent)))
                 .andExpect(status().isOk())
@@ -141,17 +322,58 @@ public class EventsAppIntegrationTest {
     void deleteEvent_WithValidId_ShouldDeleteEvent() throws Exception {
         Long eventId = testEvent.getId();
         
-        mockMvc.perform(delete("/api/events/" + eventId))
+        perform(delete("/api/events/" + eventId))
                 .andExpect(status().isOk());
 
         // Verify the event was deleted by checking that it returns an error
-        mockMvc.perform(get("/api/events/" + eventId))
-                .andExpect(status().isInternalServerError());
+        perform(get("/api/events/" + eventId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void updateEvent_WithVersion_ShouldApplyOnceAndRejectStaleRetry() throws Exception {
+        Event updatedEvent = new Event();
+        updatedEvent.setTitle("Versioned Update");
+        updatedEvent.setType("event");
+        updatedEvent.setDate(LocalDate.of(2024, 12, 27));
+        updatedEvent.setCategory(testCategory);
+        updatedEvent.setVersion(testEvent.getVersion());
+
+        perform(put("/api/events/" + testEvent.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedEvent)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(testEvent.getVersion() + 1));
+
+        perform(put("/api/events/" + testEvent.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedEvent)))
+                .andExpect(status().isConflict());
+
+        perform(get("/api/events/" + testEvent.getId()))
+                .andExpect(jsonPath("$.title").value("Versioned Update"))
+                .andExpect(jsonPath("$.version").value(testEvent.getVersion() + 1));
+    }
+
+    @Test
+    void updateEvent_WithUnknownId_ShouldReturnNotFound() throws Exception {
+        perform(put("/api/events/999")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testEvent)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void deleteEvent_WithStaleVersion_ShouldReturnConflictAndKeepEvent() throws Exception {
+        perform(delete("/api/events/" + testEvent.getId()).param("version", "" + (testEvent.getVersion() + 1)))
+                .andExpect(status().isConflict());
+        perform(get("/api/events/" + testEvent.getId()))
+                .andExpect(status().isOk());
     }
 
     @Test
     void getAllCategories_ShouldReturnCategories() throws Exception {
-        mockMvc.perform(get("/api/categories"))
+        perform(get("/api/categories"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$[0].id").value(testCategory.getId()))
@@ -160,7 +382,7 @@ public class EventsAppIntegrationTest {
 
     @Test
     void getCategory_WithValidId_ShouldReturnCategory() throws Exception {
-        mockMvc.perform(get("/api/categories/" + testCategory.getId()))
+        perform(get("/api/categories/" + testCategory.getId()))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id").value(testCategory.getId()))
@@ -169,7 +391,7 @@ public class EventsAppIntegrationTest {
 
     @Test
     void getCategoryByName_WithValidName_ShouldReturnCategory() throws Exception {
-        mockMvc.perform(get("/api/categories/name/Test Category"))
+        perform(get("/api/categories/name/Test Category"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id").value(testCategory.getId()))
@@ -181,7 +403,7 @@ public class EventsAppIntegrationTest {
         Category newCategory = new Category();
         newCategory.setName("New Integration Category");
 
-        mockMvc.perform(post("/api/categories")
+        perform(post("/api/categories")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(newCategory)))
                 .andExpect(status().isOk())
@@ -193,7 +415,7 @@ public class EventsAppIntegrationTest {
         Category updatedCategory = new Category();
         updatedCategory.setName("Updated Integration Category");
 
-        mockMvc.perform(put("/api/categories/" + testCategory.getId())
+        perform(put("/api/categories/" + testCategory.getId())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updatedCategory)))
                 .andExpect(status().isOk())
@@ -202,34 +424,80 @@ public class EventsAppIntegrationTest {
 
     @Test
     void deleteCategory_WithValidId_ShouldDeleteCategory() throws Exception {
-        Long categoryId = testCategory.getId();
+        // testCategory is still referenced by testEvent, so delete an unused one
+        Category unused = new Category();
+        unused.setName("Unused Category");
+        Long categoryId = categoryRepository.save(unused).getId();
         
-        mockMvc.perform(delete("/api/categories/" + categoryId))
+        perform(delete("/api/categories/" + categoryId))
                 .andExpect(status().isOk());
 
         // Verify the category was deleted by checking that it returns an error
-        mockMvc.perform(get("/api/categories/" + categoryId))
-                .andExpect(status().isInternalServerError());
+        perform(get("/api/categories/" + categoryId))
+                .andExpect(status().isNotFound());
     }
 
     @Test
-    void createEventWithCategory_ShouldCreateEventWithCategory() throws Exception {
-        // Create event with a new category (without ID to avoid detached entity error)
+    void categoryStats_AfterReconcile_ShouldCountEventsPerCategory() throws Exception {
+        Category empty = new Category();
+        empty.setName("Empty Category");
+        categoryRepository.save(empty);
+
+        perform(post("/api/categories/stats/reconcile"))
+                .andExpect(status().isOk());
+
+        perform(get("/api/categories/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.name == 'Test Category')].eventCount").value(1))
+                .andExpect(jsonPath("$[?(@.name == 'Empty Category')].eventCount").value(0));
+    }
+
+    @Test
+    void deleteCategory_StillReferencedByEvents_ShouldReturnConflict() throws Exception {
+        perform(delete("/api/categories/" + testCategory.getId()))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void createEvent_WithCategoryFields_ShouldNeverRewriteTheCategory() throws Exception {
+        Event newEvent = new Event();
+        newEvent.setTitle("Event with Renamed Category");
+        newEvent.setType("event");
+        Category renamed = new Category();
+        renamed.setId(testCategory.getId());
+        renamed.setName("Renamed Through Event");
+        newEvent.setCategory(renamed);
+
+        perform(post("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(newEvent)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.category.name").value("Test Category"));
+
+        assertEquals("Test Category", categoryRepository.findById(testCategory.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void createEvent_WithUnsavedCategory_ShouldReturnBadRequest() throws Exception {
         Event newEvent = new Event();
         newEvent.setTitle("Event with New Category");
         newEvent.setType("event");
-        newEvent.setDescription("An event with a newly created category");
-        newEvent.setDate("2024-12-28");
-        
         Category newCategory = new Category();
         newCategory.setName("New Category for Event");
         newEvent.setCategory(newCategory);
 
-        mockMvc.perform(post("/api/events")
+        perform(post("/api/events")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(newEvent)))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.title").value("Event with New Category"))
-                .andExpect(jsonPath("$.category.name").value("New Category for Event"));
+                .andExpect(status().isBadRequest());
+
+        assertEquals(1, categoryRepository.count());
+    }
+
+    // Endpoints returning a CompletableFuture need a second dispatch to write the response
+    private ResultActions perform(RequestBuilder builder) throws Exception {
+        ResultActions actions = mockMvc.perform(builder);
+        MvcResult result = actions.andReturn();
+        return result.getRequest().isAsyncStarted() ? mockMvc.perform(asyncDispatch(result)) : actions;
     }
-} 
\ No newline at end of file
+}
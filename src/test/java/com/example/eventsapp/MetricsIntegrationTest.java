@@ -0,0 +1,53 @@
+package com.example.eventsapp;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:metrics;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@AutoConfigureMetrics
+public class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void prometheusEndpoint_ShouldExposeEndpointServiceHibernateAndPoolMetrics() throws Exception {
+        // Point reads run on a bulkhead; the request is timed once the async dispatch completes
+        MvcResult started = mockMvc.perform(get("/api/events/1")).andExpect(request().asyncStarted()).andReturn();
+        mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/categories")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/chat")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds{")))
+                .andExpect(content().string(containsString("uri=\"/api/events/{id}\"")))
+                .andExpect(content().string(containsString("uri=\"/api/chat\"")))
+                .andExpect(content().string(containsString("quantile=\"0.99\"")))
+                .andExpect(content().string(containsString("app_service_seconds_count{class=\"com.example.eventsapp.service.EventService\"")))
+                .andExpect(content().string(containsString("method=\"getAllCategories\"")))
+                .andExpect(content().string(containsString("hibernate_statements_total")))
+                .andExpect(content().string(containsString("hibernate_entities_loads_total")))
+                .andExpect(content().string(containsString("hibernate_cache_query_requests_total")))
+                .andExpect(content().string(containsString("hibernate_second_level_cache_requests_total{")))
+                .andExpect(content().string(containsString("region=\"events\"")))
+                .andExpect(content().string(containsString("region=\"categories\"")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")))
+                .andExpect(content().string(containsString("bulkhead_queue_depth{bulkhead=\"list-reads\"")))
+                .andExpect(content().string(containsString("bulkhead_rejected_total{bulkhead=\"chat\"")))
+                .andExpect(content().string(containsString("bulkhead_active{bulkhead=\"writes\"")))
+                .andExpect(content().string(containsString("rate_limit_requests_total{outcome=\"admitted\"")))
+                .andExpect(content().string(containsString("rate_limit_clients ")));
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.eventsapp;
+
+import com.example.eventsapp.config.SecondLevelCacheConfig;
+import com.example.eventsapp.exception.NotFoundException;
+import com.example.eventsapp.model.Event;
+import com.example.eventsapp.service.EventService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:l2cache;DB_CLOSE_DELAY=-1")
+public class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private CacheRegionStatistics events;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        sessionFactory.getStatistics().clear();
+        events = sessionFactory.getStatistics().getDomainDataRegionStatistics(SecondLevelCacheConfig.EVENTS);
+    }
+
+    @Test
+    void getEvent_SecondRead_ShouldBeServedFromCache() {
+        // Arrange
+        Long id = eventService.createEvent(event("Cached")).getId();
+        eventService.getEvent(id);
+        long hits = events.getHitCount();
+        long misses = events.getMissCount();
+
+        // Act
+        Event event = eventService.getEvent(id);
+
+        // Assert
+        assertEquals("Cached", event.getTitle());
+        assertEquals(hits + 1, events.getHitCount());
+        assertEquals(misses, events.getMissCount());
+    }
+
+    @Test
+    void updateEvent_ShouldInvalidateTheCachedEntry() {
+        // Arrange
+        Event saved = eventService.createEvent(event("Before"));
+        eventService.getEvent(saved.getId());
+        Event changed = event("After");
+        changed.setId(saved.getId());
+
+        // Act
+        eventService.updateEvent(changed);
+
+        // Assert
+        assertEquals("After", eventService.getEvent(saved.getId()).getTitle());
+    }
+
+    @Test
+    void updateEvent_ShouldKeepOtherEventsCached() {
+        // Arrange
+        Event updated = eventService.createEvent(event("Updated"));
+        Long otherId = eventService.createEvent(event("Untouched")).getId();
+        eventService.getEvent(otherId);
+        Event changed = event("Updated again");
+        changed.setId(updated.getId());
+        eventService.updateEvent(changed);
+        long hits = events.getHitCount();
+        long misses = events.getMissCount();
+
+        // Act
+        Event other = eventService.getEvent(otherId);
+
+        // Assert
+        assertEquals("Untouched", other.getTitle());
+        assertEquals(hits + 1, events.getHitCount());
+        assertEquals(misses, events.getMissCount());
+    }
+
+    @Test
+    void deleteEvent_ShouldEvictOnlyTheDeletedEvent() {
+        // Arrange
+        Long deletedId = eventService.createEvent(event("Deleted")).getId();
+        Long otherId = eventService.createEvent(event("Untouched")).getId();
+        eventService.getEvent(deletedId);
+        eventService.getEvent(otherId);
+
+        // Act
+        eventService.deleteEvent(deletedId, null);
+
+        // Assert
+        long hits = events.getHitCount();
+        assertEquals("Untouched", eventService.getEvent(otherId).getTitle());
+        assertEquals(hits + 1, events.getHitCount());
+        assertThrows(NotFoundException.class, () -> eventService.getEvent(deletedId));
+    }
+
+    private static Event event(String title) {
+        Event event = new Event();
+        event.setType("concert");
+        event.setTitle(title);
+        return event;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.eventsapp.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class StartupReportTest {
+
+    @Test
+    void summarize_ShouldRankStepsBySelfTime() {
+        // Arrange
+        List<StartupTimeline.TimelineEvent> events = List.of(
+                event(1, null, "spring.context.refresh", 1000, null),
+                event(2, 1L, "spring.beans.instantiate", 700, "entityManagerFactory"),
+                event(3, 2L, "spring.beans.instantiate", 600, "dataSource"),
+                event(4, 1L, "spring.beans.instantiate", 100, "eventController"));
+
+        // Act
+        String report = StartupReport.summarize(events, 3);
+
+        // Assert
+        String[] lines = report.split("\\R");
+        assertEquals("Slowest startup steps (self time):", lines[0]);
+        assertTrue(lines[1].matches("\\s+600 ms  spring.beans.instantiate dataSource"));
+        assertTrue(lines[2].matches("\\s+200 ms  spring.context.refresh"));
+        assertTrue(lines[3].matches("\\s+100 ms  spring.beans.instantiate (entityManagerFactory|eventController)"));
+        assertEquals("Self time per step type:", lines[4]);
+        assertTrue(lines[5].matches("\\s+800 ms  spring.beans.instantiate"));
+        assertTrue(lines[6].matches("\\s+200 ms  spring.context.refresh"));
+        assertEquals(7, lines.length);
+    }
+
+    private static StartupTimeline.TimelineEvent event(long id, Long parentId, String name, long millis,
+                                                       String beanName) {
+        StartupStep step = mock(StartupStep.class);
+        when(step.getId()).thenReturn(id);
+        when(step.getParentId()).thenReturn(parentId);
+        when(step.getName()).thenReturn(name);
+        List<StartupStep.Tag> tags = beanName == null ? List.of() : List.of(tag("beanName", beanName));
+        when(step.getTags()).thenReturn(new StartupStep.Tags() {
+            @Override
+            public Iterator<StartupStep.Tag> iterator() {
+                return tags.iterator();
+            }
+        });
+        StartupTimeline.TimelineEvent event = mock(StartupTimeline.TimelineEvent.class);
+        when(event.getStartupStep()).thenReturn(step);
+        when(event.getDuration()).thenReturn(Duration.ofMillis(millis));
+        return event;
+    }
+
+    private static StartupStep.Tag tag(String key, String value) {
+        StartupStep.Tag tag = mock(StartupStep.Tag.class);
+        when(tag.getKey()).thenReturn(key);
+        when(tag.getValue()).thenReturn(value);
+        return tag;
+    }
+}
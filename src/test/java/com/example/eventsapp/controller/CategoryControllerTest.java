@@ -1,6 +1,15 @@
 package com.example.eventsapp.controller;
 
+import com.example.eventsapp.dto.CategoryCount;
+import com.example.eventsapp.dto.ReconcileResult;
+import com.example.eventsapp.dto.RegistryStats;
+import com.example.eventsapp.exception.NotFoundException;
+import com.example.eventsapp.exception.VersionConflictException;
 import com.example.eventsapp.model.Category;
+import com.example.eventsapp.service.Bulkheads;
+import com.example.eventsapp.service.CategoryEventCounts;
+import com.example.eventsapp.service.DataVersion;
+import com.example.eventsapp.service.RateLimiter;
 import com.example.eventsapp.service.CategoryService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,8 +17,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
 
 import java.util.Arrays;
 import java.util.List;
@@ -21,6 +35,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(controllers = CategoryController.class)
+@Import({DataVersion.class, Bulkheads.class})
 public class CategoryControllerTest {
 
     @Autowired
@@ -29,9 +44,18 @@ public class CategoryControllerTest {
     @MockBean
     private CategoryService categoryService;
 
+    @MockBean
+    private CategoryEventCounts eventCounts;
+
+    @MockBean
+    private RateLimiter rateLimiter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private DataVersion dataVersion;
+
     private Category testCategory;
 
     @BeforeEach
@@ -45,7 +69,7 @@ public class CategoryControllerTest {
     void getAllCategories_ShouldReturnCategoriesList() throws Exception {
         List<Category> categories = Arrays.asList(testCategory);
         when(categoryService.getAllCategories()).thenReturn(categories);
-        mockMvc.perform(get("/api/categories"))
+        perform(get("/api/categories"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$[0].id").value(1))
@@ -56,7 +80,7 @@ public class CategoryControllerTest {
     @Test
     void getCategory_WithValidId_ShouldReturnCategory() throws Exception {
         when(categoryService.getCategory(1L)).thenReturn(testCategory);
-        mockMvc.perform(get("/api/categories/1"))
+        perform(get("/api/categories/1"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id").value(1))
@@ -66,9 +90,10 @@ public class CategoryControllerTest {
 
     @Test
     void getCategory_WithInvalidId_ShouldThrowException() throws Exception {
-        when(categoryService.getCategory(999L)).thenThrow(new RuntimeException("Category not found with id: 999"));
-        mockMvc.perform(get("/api/categories/999"))
-                .andExpect(result -> assertTrue(result.getResolvedException() instanceof RuntimeException))
+        when(categoryService.getCategory(999L)).thenThrow(new NotFoundException("Category not found with id: 999"));
+        perform(get("/api/categories/999"))
+                .andExpect(status().isNotFound())
+                .andExpect(result -> assertTrue(result.getResolvedException() instanceof NotFoundException))
                 .andExpect(result -> assertTrue(result.getResolvedException().getMessage().contains("Category not found with id: 999")));
         verify(categoryService, times(1)).getCategory(999L);
     }
@@ -76,7 +101,7 @@ public class CategoryControllerTest {
     @Test
     void getCategoryByName_WithValidName_ShouldReturnCategory() throws Exception {
         when(categoryService.getCategoryByName("Music")).thenReturn(testCategory);
-        mockMvc.perform(get("/api/categories/name/Music"))
+        perform(get("/api/categories/name/Music"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id").value(1))
@@ -86,9 +111,10 @@ public class CategoryControllerTest {
 
     @Test
     void getCategoryByName_WithInvalidName_ShouldThrowException() throws Exception {
-        when(categoryService.getCategoryByName("InvalidCategory")).thenThrow(new RuntimeException("Category not found with name: InvalidCategory"));
-        mockMvc.perform(get("/api/categories/name/InvalidCategory"))
-                .andExpect(result -> assertTrue(result.getResolvedException() instanceof RuntimeException))
+        when(categoryService.getCategoryByName("InvalidCategory")).thenThrow(new NotFoundException("Category not found with name: InvalidCategory"));
+        perform(get("/api/categories/name/InvalidCategory"))
+                .andExpect(status().isNotFound())
+                .andExpect(result -> assertTrue(result.getResolvedException() instanceof NotFoundException))
                 .andExpect(result -> assertTrue(result.getResolvedException().getMessage().contains("Category not found with name: InvalidCategory")));
         verify(categoryService, times(1)).getCategoryByName("InvalidCategory");
     }
@@ -98,7 +124,7 @@ public class CategoryControllerTest {
         Category newCategory = new Category();
         newCategory.setName("New Category");
         when(categoryService.createCategory(any(Category.class))).thenReturn(testCategory);
-        mockMvc.perform(post("/api/categories")
+        perform(post("/api/categories")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(newCategory)))
                 .andExpect(status().isOk())
@@ -112,7 +138,7 @@ public class CategoryControllerTest {
         Category updatedCategory = new Category();
         updatedCategory.setName("Updated Category");
         when(categoryService.updateCategory(any(Category.class))).thenReturn(testCategory);
-        mockMvc.perform(put("/api/categories/1")
+        perform(put("/api/categories/1")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updatedCategory)))
                 .andExpect(status().isOk())
@@ -125,30 +151,84 @@ public class CategoryControllerTest {
         Category updatedCategory = new Category();
         updatedCategory.setName("Updated Category");
         when(categoryService.updateCategory(any(Category.class)))
-                .thenThrow(new RuntimeException("Category not found with id: 999"));
-        mockMvc.perform(put("/api/categories/999")
+                .thenThrow(new NotFoundException("Category not found with id: 999"));
+        perform(put("/api/categories/999")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updatedCategory)))
-                .andExpect(result -> assertTrue(result.getResolvedException() instanceof RuntimeException))
+                .andExpect(status().isNotFound())
+                .andExpect(result -> assertTrue(result.getResolvedException() instanceof NotFoundException))
                 .andExpect(result -> assertTrue(result.getResolvedException().getMessage().contains("Category not found with id: 999")));
         verify(categoryService, times(1)).updateCategory(any(Category.class));
     }
 
+    @Test
+    void deleteCategory_WithStaleVersion_ShouldReturnConflict() throws Exception {
+        doThrow(new VersionConflictException("Category 1 was modified after version 0"))
+                .when(categoryService).deleteCategory(1L, 0L);
+        perform(delete("/api/categories/1").param("version", "0"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Category 1 was modified after version 0"));
+    }
+
     @Test
     void deleteCategory_WithValidId_ShouldReturnNoContent() throws Exception {
-        doNothing().when(categoryService).deleteCategory(1L);
-        mockMvc.perform(delete("/api/categories/1"))
+        doNothing().when(categoryService).deleteCategory(1L, null);
+        perform(delete("/api/categories/1"))
                 .andExpect(status().isOk());
-        verify(categoryService, times(1)).deleteCategory(1L);
+        verify(categoryService, times(1)).deleteCategory(1L, null);
     }
 
     @Test
     void deleteCategory_WithInvalidId_ShouldThrowException() throws Exception {
-        doThrow(new RuntimeException("Category not found with id: 999"))
-                .when(categoryService).deleteCategory(999L);
-        mockMvc.perform(delete("/api/categories/999"))
-                .andExpect(result -> assertTrue(result.getResolvedException() instanceof RuntimeException))
+        doThrow(new NotFoundException("Category not found with id: 999"))
+                .when(categoryService).deleteCategory(999L, null);
+        perform(delete("/api/categories/999"))
+                .andExpect(status().isNotFound())
+                .andExpect(result -> assertTrue(result.getResolvedException() instanceof NotFoundException))
                 .andExpect(result -> assertTrue(result.getResolvedException().getMessage().contains("Category not found with id: 999")));
-        verify(categoryService, times(1)).deleteCategory(999L);
+        verify(categoryService, times(1)).deleteCategory(999L, null);
+    }
+
+    @Test
+    void getRegistryStats_ShouldReturnCounters() throws Exception {
+        when(categoryService.getRegistryStats()).thenReturn(new RegistryStats(5, 1, 1, 9));
+        perform(get("/api/categories/registry"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits").value(5))
+                .andExpect(jsonPath("$.misses").value(1))
+                .andExpect(jsonPath("$.size").value(9));
+    }
+
+    @Test
+    void getCategoryStats_ShouldReturnCountsFromMemory() throws Exception {
+        when(eventCounts.getStats()).thenReturn(List.of(new CategoryCount(1L, "Music", 12)));
+        perform(get("/api/categories/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].categoryId").value(1))
+                .andExpect(jsonPath("$[0].eventCount").value(12));
+        verify(categoryService, never()).getCategory(any());
+    }
+
+    @Test
+    void reconcileCategoryStats_ShouldReturnCorrections() throws Exception {
+        when(eventCounts.reconcile()).thenReturn(new ReconcileResult(9, 2));
+        perform(post("/api/categories/stats/reconcile"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.checked").value(9))
+                .andExpect(jsonPath("$.corrected").value(2));
+    }
+
+    @Test
+    void getAllCategories_WithCurrentEtag_ShouldReturnNotModifiedWithoutLoading() throws Exception {
+        perform(get("/api/categories").header(HttpHeaders.IF_NONE_MATCH, "\"" + dataVersion.categories().getEtag() + "\""))
+                .andExpect(status().isNotModified());
+        verify(categoryService, never()).getAllCategories();
+    }
+
+    // Endpoints returning a CompletableFuture need a second dispatch to write the response
+    private ResultActions perform(RequestBuilder builder) throws Exception {
+        ResultActions actions = mockMvc.perform(builder);
+        MvcResult result = actions.andReturn();
+        return result.getRequest().isAsyncStarted() ? mockMvc.perform(asyncDispatch(result)) : actions;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,75 @@
+package com.example.eventsapp.controller;
+
+import com.example.eventsapp.dto.ChatJob;
+import com.example.eventsapp.exception.NotFoundException;
+import com.example.eventsapp.exception.QueueFullException;
+import com.example.eventsapp.exception.RateLimitedException;
+import com.example.eventsapp.service.ChatCommandQueue;
+import com.example.eventsapp.service.RateLimiter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = ChatController.class, properties = "app.rate-limit.api-keys=noisy")
+public class ChatControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ChatCommandQueue chatQueue;
+
+    @MockBean
+    private RateLimiter rateLimiter;
+
+    @Test
+    void handleChat_ShouldAcceptAndReturnJob() throws Exception {
+        when(chatQueue.submit("add a concert")).thenReturn(ChatJob.queued("job-1"));
+        mockMvc.perform(post("/api/chat").contentType(MediaType.TEXT_PLAIN).content("add a concert"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/api/chat/jobs/job-1"))
+                .andExpect(jsonPath("$.id").value("job-1"))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+    }
+
+    @Test
+    void handleChat_WhenQueueIsFull_ShouldReturnServiceUnavailable() throws Exception {
+        when(chatQueue.submit(any())).thenThrow(new QueueFullException("Chat queue is full, retry later"));
+        mockMvc.perform(post("/api/chat").contentType(MediaType.TEXT_PLAIN).content("add a concert"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
+    @Test
+    void handleChat_WhenClientIsOverItsRateLimit_ShouldReturnTooManyRequests() throws Exception {
+        doThrow(new RateLimitedException("Too many writes, retry later", 3)).when(rateLimiter).acquire("key:noisy");
+        mockMvc.perform(post("/api/chat").header("X-API-Key", "noisy").contentType(MediaType.TEXT_PLAIN).content("add a concert"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"));
+        verifyNoInteractions(chatQueue);
+    }
+
+    @Test
+    void getJob_ShouldReturnOutcome() throws Exception {
+        when(chatQueue.getJob("job-1")).thenReturn(new ChatJob("job-1", ChatJob.Status.COMPLETED, 42L, "Event created"));
+        mockMvc.perform(get("/api/chat/jobs/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.eventId").value(42));
+    }
+
+    @Test
+    void getJob_WithUnknownId_ShouldReturnNotFound() throws Exception {
+        when(chatQueue.getJob("nope")).thenThrow(new NotFoundException("Chat job not found with id: nope"));
+        mockMvc.perform(get("/api/chat/jobs/nope"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -1,27 +1,59 @@
 package com.example.eventsapp.controller;
 
+import com.example.eventsapp.dto.CursorPage;
+import com.example.eventsapp.dto.EventBatch;
+import com.example.eventsapp.dto.EventSummary;
+import com.example.eventsapp.dto.ImportError;
+import com.example.eventsapp.dto.ImportResult;
+import com.example.eventsapp.exception.NotFoundException;
+import com.example.eventsapp.exception.RateLimitedException;
+import com.example.eventsapp.exception.VersionConflictException;
 import com.example.eventsapp.model.Event;
 import com.example.eventsapp.model.Category;
+import com.example.eventsapp.service.ChangeFeed;
+import com.example.eventsapp.service.Bulkheads;
+import com.example.eventsapp.service.DataVersion;
+import com.example.eventsapp.service.EventExportService;
+import com.example.eventsapp.service.EventImportService;
 import com.example.eventsapp.service.EventService;
+import com.example.eventsapp.service.RateLimiter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(controllers = EventController.class)
+@Import({DataVersion.class, Bulkheads.class})
 public class EventControllerTest {
 
     @Autowired
@@ -30,10 +62,26 @@ public class EventControllerTest {
     @MockBean
     private EventService eventService;
 
+    @MockBean
+    private EventExportService exportService;
+
+    @MockBean
+    private EventImportService importService;
+
+    @MockBean
+    private ChangeFeed changeFeed;
+
+    @MockBean
+    private RateLimiter rateLimiter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private DataVersion dataVersion;
+
     private Event testEvent;
+    private EventSummary testSummary;
     private Category testCategory;
 
     @BeforeEach
@@ -47,28 +95,218 @@ public class EventControllerTest {
         testEvent.setTitle("Test Concert");
         testEvent.setType("concert");
         testEvent.setDescription("A test concert");
-        testEvent.setDate("2024-12-25");
+        testEvent.setDate(LocalDate.of(2024, 12, 25));
         testEvent.setImage("test-image.jpg");
         testEvent.setCategory(testCategory);
+
+        testSummary = new EventSummary(1L, "concert", "Test Concert", LocalDate.of(2024, 12, 25), "test-image.jpg",
+                1L, "Music", "A test concert", 3L);
     }
 
     @Test
-    void getAllEvents_ShouldReturnEventsList() throws Exception {
-        List<Event> events = Arrays.asList(testEvent);
-        when(eventService.getAllEvents()).thenReturn(events);
-        mockMvc.perform(get("/api/events"))
+    void getAllEvents_ShouldReturnFirstPageOfSummaries() throws Exception {
+        when(eventService.getEventsPage(null, null, 20)).thenReturn(new CursorPage<>(Arrays.asList(testSummary), "MQ"));
+        perform(get("/api/events"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("Test Concert"))
+                .andExpect(jsonPath("$.items[0].date").value("2024-12-25"))
+                .andExpect(jsonPath("$.items[0].unscheduled").value(false))
+                .andExpect(jsonPath("$.items[0].version").value(3))
+                .andExpect(jsonPath("$.items[0].description").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value("MQ"));
+        verify(eventService, times(1)).getEventsPage(null, null, 20);
+        verifyNoInteractions(rateLimiter);
+    }
+
+    @Test
+    void getAllEvents_ShouldSendValidators() throws Exception {
+        when(eventService.getEventsPage(null, null, 20)).thenReturn(new CursorPage<>(Arrays.asList(testSummary), null));
+        perform(get("/api/events"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"" + dataVersion.events().getEtag() + "\""))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+    }
+
+    @Test
+    void getAllEvents_WithCurrentEtag_ShouldReturnNotModifiedWithoutLoading() throws Exception {
+        perform(get("/api/events").header(HttpHeaders.IF_NONE_MATCH, "\"" + dataVersion.events().getEtag() + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verifyNoInteractions(eventService);
+    }
+
+    @Test
+    void getAllEvents_AfterChange_ShouldReturnFreshBody() throws Exception {
+        String staleEtag = "\"" + dataVersion.events().getEtag() + "\"";
+        dataVersion.eventsChanged();
+        when(eventService.getEventsPage(null, null, 20)).thenReturn(new CursorPage<>(Arrays.asList(testSummary), null));
+        perform(get("/api/events").header(HttpHeaders.IF_NONE_MATCH, staleEtag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1));
+    }
+
+    @Test
+    void getEventsPage_WithDateRange_ShouldPassParsedDatesToService() throws Exception {
+        LocalDate from = LocalDate.of(2024, 12, 1);
+        LocalDate to = LocalDate.of(2024, 12, 31);
+        when(eventService.getEventsBetween(from, to, null, 20)).thenReturn(new CursorPage<>(Arrays.asList(testSummary), null));
+        perform(get("/api/events/page").param("from", "2024-12-01").param("to", "2024-12-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.items[0].description").doesNotExist());
+        verify(eventService, times(1)).getEventsBetween(from, to, null, 20);
+        verify(eventService, never()).getEventsPage(any(), any(), anyInt());
+    }
+
+    @Test
+    void getEventsPage_WithInvertedRange_ShouldReturnBadRequest() throws Exception {
+        when(eventService.getEventsBetween(any(), any(), any(), anyInt())).thenThrow(new IllegalArgumentException("from must not be after to"));
+        perform(get("/api/events/page").param("from", "2025-01-02").param("to", "2025-01-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("from must not be after to"));
+    }
+
+    @Test
+    void getEventsPage_WithDateRangeAndCategory_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/events/page").param("from", "2025-01-01").param("categoryId", "1"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(eventService);
+    }
+
+    @Test
+    void getUpcomingEvents_ShouldReturnSummaries() throws Exception {
+        when(eventService.getUpcomingEvents(5)).thenReturn(Arrays.asList(testSummary));
+        perform(get("/api/events/upcoming").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].date").value("2024-12-25"));
+        verify(eventService, times(1)).getUpcomingEvents(5);
+    }
+
+    @Test
+    void getEventsPage_ShouldReturnItemsAndNextCursor() throws Exception {
+        when(eventService.getEventsPage(null, "abc", 10)).thenReturn(new CursorPage<>(Arrays.asList(testSummary), "MQ"));
+        perform(get("/api/events/page").param("cursor", "abc").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.items[0].snippet").value("A test concert"))
+                .andExpect(jsonPath("$.items[0].description").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value("MQ"));
+        verify(eventService, times(1)).getEventsPage(null, "abc", 10);
+    }
+
+    @Test
+    void getEventsPage_WithCategoryId_ShouldPassFilterToService() throws Exception {
+        when(eventService.getEventsPage(1L, null, 20)).thenReturn(new CursorPage<>(Arrays.asList(testSummary), null));
+        perform(get("/api/events/page").param("categoryId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].category.id").value(1));
+        verify(eventService, times(1)).getEventsPage(1L, null, 20);
+    }
+
+    @Test
+    void searchEvents_ShouldReturnRankedSummaries() throws Exception {
+        when(eventService.searchEvents("concert", 20)).thenReturn(Arrays.asList(testSummary));
+        perform(get("/api/events/search").param("q", "concert"))
+                .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(1))
-                .andExpect(jsonPath("$[0].title").value("Test Concert"))
-                .andExpect(jsonPath("$[0].type").value("concert"));
-        verify(eventService, times(1)).getAllEvents();
+                .andExpect(jsonPath("$[0].title").value("Test Concert"));
+        verify(eventService, times(1)).searchEvents("concert", 20);
+    }
+
+    @Test
+    void getEventsByIds_ShouldReturnEventsAndMissingIds() throws Exception {
+        when(eventService.getEvents(List.of(1L, 7L))).thenReturn(new EventBatch(List.of(testEvent), List.of(7L)));
+        perform(post("/api/events/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[1,7]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events[0].id").value(1))
+                .andExpect(jsonPath("$.events[0].title").value("Test Concert"))
+                .andExpect(jsonPath("$.missingIds[0]").value(7));
+        verify(rateLimiter, never()).acquire(any());
+    }
+
+    @Test
+    void getEventsByIds_WithTooManyIds_ShouldReturnBadRequest() throws Exception {
+        when(eventService.getEvents(any())).thenThrow(new IllegalArgumentException("At most 1000 event ids can be fetched at once"));
+        perform(post("/api/events/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[1,2]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportEvents_ShouldStreamNdjson() throws Exception {
+        when(exportService.exportNdjson(any(OutputStream.class))).thenAnswer(invocation -> {
+            invocation.getArgument(0, OutputStream.class).write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        });
+        MvcResult started = mockMvc.perform(get("/api/events/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
+    @Test
+    void exportEvents_WithGzipAccepted_ShouldCompressBody() throws Exception {
+        when(exportService.exportNdjson(any(OutputStream.class))).thenAnswer(invocation -> {
+            invocation.getArgument(0, OutputStream.class).write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+        MvcResult started = mockMvc.perform(get("/api/events/export").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+        byte[] compressed = result.getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertEquals("{\"id\":1}\n", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void importEvents_WithJsonArray_ShouldReturnImportReport() throws Exception {
+        ImportResult report = new ImportResult(2, 1, 5, 200.0, Arrays.asList(new ImportError(2, "Title is required")));
+        when(importService.importEvents(anyList(), eq(100))).thenReturn(report);
+        perform(post("/api/events/import").param("batchSize", "100")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"title\":\"A\",\"category\":\"music\"},{\"category\":\"music\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(2))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.rowsPerSecond").value(200.0))
+                .andExpect(jsonPath("$.errors[0].row").value(2))
+                .andExpect(jsonPath("$.errors[0].message").value("Title is required"));
+        verify(importService, times(1)).importEvents(anyList(), eq(100));
+    }
+
+    @Test
+    void importEvents_WithCsv_ShouldUseCsvImport() throws Exception {
+        when(importService.importCsv(any(Reader.class), eq(EventImportService.DEFAULT_BATCH_SIZE)))
+                .thenReturn(new ImportResult(1, 1, 1, 1000.0, List.of()));
+        perform(post("/api/events/import")
+                .contentType("text/csv")
+                .content("title,category\nA,music\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1));
+        verify(importService, never()).importEvents(anyList(), anyInt());
     }
 
     @Test
     void getEvent_WithValidId_ShouldReturnEvent() throws Exception {
         when(eventService.getEvent(1L)).thenReturn(testEvent);
-        mockMvc.perform(get("/api/events/1"))
+        perform(get("/api/events/1"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id").value(1))
@@ -78,9 +316,10 @@ public class EventControllerTest {
 
     @Test
     void getEvent_WithInvalidId_ShouldThrowException() throws Exception {
-        when(eventService.getEvent(999L)).thenThrow(new RuntimeException("Event not found with id: 999"));
-        mockMvc.perform(get("/api/events/999"))
-                .andExpect(result -> assertTrue(result.getResolvedException() instanceof RuntimeException))
+        when(eventService.getEvent(999L)).thenThrow(new NotFoundException("Event not found with id: 999"));
+        perform(get("/api/events/999"))
+                .andExpect(status().isNotFound())
+                .andExpect(result -> assertTrue(result.getResolvedException() instanceof NotFoundException))
                 .andExpect(result -> assertTrue(result.getResolvedException().getMessage().contains("Event not found with id: 999")));
         verify(eventService, times(1)).getEvent(999L);
     }
@@ -91,15 +330,27 @@ public class EventControllerTest {
         newEvent.setTitle("New Event");
         newEvent.setType("movie");
         newEvent.setDescription("A new event");
-        newEvent.setDate("2024-12-26");
+        newEvent.setDate(LocalDate.of(2024, 12, 26));
         when(eventService.createEvent(any(Event.class))).thenReturn(testEvent);
-        mockMvc.perform(post("/api/events")
+        perform(post("/api/events")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(newEvent)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.title").value("Test Concert"));
         verify(eventService, times(1)).createEvent(any(Event.class));
+        verify(rateLimiter).acquire("ip:127.0.0.1");
+    }
+
+    @Test
+    void createEvent_WhenClientIsOverItsRateLimit_ShouldReturnTooManyRequests() throws Exception {
+        doThrow(new RateLimitedException("Too many writes, retry later", 2)).when(rateLimiter).acquire(anyString());
+        perform(post("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testEvent)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"));
+        verifyNoInteractions(eventService);
     }
 
     @Test
@@ -108,9 +359,9 @@ public class EventControllerTest {
         updatedEvent.setTitle("Updated Event");
         updatedEvent.setType("event");
         updatedEvent.setDescription("An updated event");
-        updatedEvent.setDate("2024-12-27");
+        updatedEvent.setDate(LocalDate.of(2024, 12, 27));
         when(eventService.updateEvent(any(Event.class))).thenReturn(testEvent);
-        mockMvc.perform(put("/api/events/1")
+        perform(put("/api/events/1")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updatedEvent)))
                 .andExpect(status().isOk())
@@ -123,30 +374,67 @@ public class EventControllerTest {
         Event updatedEvent = new Event();
         updatedEvent.setTitle("Updated Event");
         when(eventService.updateEvent(any(Event.class)))
-                .thenThrow(new RuntimeException("Event not found with id: 999"));
-        mockMvc.perform(put("/api/events/999")
+                .thenThrow(new NotFoundException("Event not found with id: 999"));
+        perform(put("/api/events/999")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updatedEvent)))
-                .andExpect(result -> assertTrue(result.getResolvedException() instanceof RuntimeException))
+                .andExpect(status().isNotFound())
+                .andExpect(result -> assertTrue(result.getResolvedException() instanceof NotFoundException))
                 .andExpect(result -> assertTrue(result.getResolvedException().getMessage().contains("Event not found with id: 999")));
         verify(eventService, times(1)).updateEvent(any(Event.class));
     }
 
+    @Test
+    void updateEvent_WithStaleVersion_ShouldReturnConflict() throws Exception {
+        testEvent.setVersion(2L);
+        when(eventService.updateEvent(any(Event.class)))
+                .thenThrow(new VersionConflictException("Event 1 was modified after version 2"));
+        perform(put("/api/events/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testEvent)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.message").value("Event 1 was modified after version 2"));
+    }
+
+    @Test
+    void deleteEvent_WithVersion_ShouldPassVersionToService() throws Exception {
+        perform(delete("/api/events/1").param("version", "5"))
+                .andExpect(status().isOk());
+        verify(eventService, times(1)).deleteEvent(1L, 5L);
+    }
+
     @Test
     void deleteEvent_WithValidId_ShouldReturnNoContent() throws Exception {
-        doNothing().when(eventService).deleteEvent(1L);
-        mockMvc.perform(delete("/api/events/1"))
+        doNothing().when(eventService).deleteEvent(1L, null);
+        perform(delete("/api/events/1"))
                 .andExpect(status().isOk());
-        verify(eventService, times(1)).deleteEvent(1L);
+        verify(eventService, times(1)).deleteEvent(1L, null);
     }
 
     @Test
     void deleteEvent_WithInvalidId_ShouldThrowException() throws Exception {
-        doThrow(new RuntimeException("Event not found with id: 999"))
-                .when(eventService).deleteEvent(999L);
-        mockMvc.perform(delete("/api/events/999"))
-                .andExpect(result -> assertTrue(result.getResolvedException() instanceof RuntimeException))
+        doThrow(new NotFoundException("Event not found with id: 999"))
+                .when(eventService).deleteEvent(999L, null);
+        perform(delete("/api/events/999"))
+                .andExpect(status().isNotFound())
+                .andExpect(result -> assertTrue(result.getResolvedException() instanceof NotFoundException))
                 .andExpect(result -> assertTrue(result.getResolvedException().getMessage().contains("Event not found with id: 999")));
-        verify(eventService, times(1)).deleteEvent(999L);
+        verify(eventService, times(1)).deleteEvent(999L, null);
+    }
+
+    @Test
+    void streamChanges_ShouldSubscribeWithLastEventId() throws Exception {
+        when(changeFeed.subscribe("abc-7")).thenReturn(new SseEmitter());
+        mockMvc.perform(get("/api/events/stream").header("Last-Event-ID", "abc-7"))
+                .andExpect(request().asyncStarted());
+        verify(changeFeed).subscribe("abc-7");
+    }
+
+    // Endpoints returning a CompletableFuture need a second dispatch to write the response
+    private ResultActions perform(RequestBuilder builder) throws Exception {
+        ResultActions actions = mockMvc.perform(builder);
+        MvcResult result = actions.andReturn();
+        return result.getRequest().isAsyncStarted() ? mockMvc.perform(asyncDispatch(result)) : actions;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,40 @@
+package com.example.eventsapp.controller;
+
+import com.example.eventsapp.service.RateLimiter;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+public class RateLimitInterceptorTest {
+
+    private final RateLimitInterceptor interceptor = new RateLimitInterceptor(mock(RateLimiter.class), Set.of("partner"));
+
+    @Test
+    void client_WithConfiguredApiKey_ShouldUseTheKey() {
+        // Arrange
+        MockHttpServletRequest request = request("partner");
+
+        // Act & Assert
+        assertEquals("key:partner", interceptor.client(request));
+    }
+
+    @Test
+    void client_WithUnknownApiKey_ShouldUseTheRemoteAddress() {
+        // Arrange
+        MockHttpServletRequest request = request("made-up-" + System.nanoTime());
+
+        // Act & Assert
+        assertEquals("ip:10.0.0.7", interceptor.client(request));
+    }
+
+    private static MockHttpServletRequest request(String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/events");
+        request.setRemoteAddr("10.0.0.7");
+        request.addHeader(RateLimitInterceptor.API_KEY_HEADER, apiKey);
+        return request;
+    }
+}
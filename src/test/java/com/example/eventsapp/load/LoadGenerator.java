@@ -0,0 +1,261 @@
+package com.example.eventsapp.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Drives a weighted mix of API calls from concurrent clients against a running server
+ * and records each call's latency in an HDR histogram per operation.
+ *
+ * <p>Clients run a closed loop: each sends its next request as soon as the previous one
+ * answers, so the numbers are latency at the throughput the server sustained, not at a
+ * fixed arrival rate. Calls made during the warm-up are sent but not recorded. Each
+ * client sends its own X-API-Key from {@link #apiKey}; the server rate-limits them as
+ * separate clients only when those keys are in app.rate-limit.api-keys.
+ */
+class LoadGenerator {
+    // Latencies are recorded in microseconds, up to a minute, to 3 significant digits
+    private static final long HIGHEST_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    enum Operation {
+        LIST_EVENTS("list"),
+        GET_EVENT("get"),
+        CATEGORIES("categories"),
+        CREATE_EVENT("create"),
+        CHAT("chat");
+
+        final String key;
+
+        Operation(String key) {
+            this.key = key;
+        }
+
+        static Operation of(String key) {
+            for (Operation operation : values()) {
+                if (operation.key.equals(key)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("Unknown operation: " + key);
+        }
+    }
+
+    private final URI baseUri;
+    private final HttpClient client;
+    private final Map<Operation, Integer> mix;
+    private final int totalWeight;
+    private final LongSupplier eventIds;
+
+    LoadGenerator(URI baseUri, Map<Operation, Integer> mix, LongSupplier eventIds) {
+        this.baseUri = baseUri;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.mix = new EnumMap<>(mix);
+        this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        if (totalWeight <= 0) {
+            throw new IllegalArgumentException("Workload mix has no operations: " + mix);
+        }
+        this.eventIds = eventIds;
+    }
+
+    /**
+     * Parses a mix such as {@code list=20,get=45,categories=20,create=10,chat=5}; the
+     * numbers are relative weights.
+     */
+    static Map<Operation, Integer> parseMix(String spec) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation=weight, got: " + entry);
+            }
+            mix.put(Operation.of(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+
+    Report run(int clients, Duration warmup, Duration duration) throws InterruptedException {
+        Report report = new Report(mix.keySet());
+        long recordFrom = System.nanoTime() + warmup.toNanos();
+        long stopAt = recordFrom + duration.toNanos();
+
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        for (int i = 0; i < clients; i++) {
+            String apiKey = apiKey(i);
+            pool.execute(() -> {
+                while (System.nanoTime() < stopAt) {
+                    Operation operation = next();
+                    long started = System.nanoTime();
+                    boolean ok = call(operation, apiKey);
+                    if (started >= recordFrom) {
+                        report.record(operation, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started), ok);
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        if (!pool.awaitTermination(duration.plus(warmup).toSeconds() + 60, TimeUnit.SECONDS)) {
+            pool.shutdownNow();
+        }
+        report.elapsed = duration;
+        return report;
+    }
+
+    static String apiKey(int client) {
+        return "load-client-" + client;
+    }
+
+    private Operation next() {
+        int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    // 2xx is success; anything else, including 429 and 503 from a full bulkhead or queue, is an error
+    private boolean call(Operation operation, String apiKey) {
+        try {
+            HttpResponse<Void> response = client.send(request(operation, apiKey), HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() / 100 == 2;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private HttpRequest request(Operation operation, String apiKey) {
+        switch (operation) {
+            case LIST_EVENTS:
+                return get("/api/events", apiKey);
+            case GET_EVENT:
+                return get("/api/events/" + eventIds.getAsLong(), apiKey);
+            case CATEGORIES:
+                return get("/api/categories", apiKey);
+            case CREATE_EVENT:
+                return post("/api/events", apiKey, "application/json", "{\"type\":\"concert\",\"title\":\"Load test concert\","
+                        + "\"description\":\"Created by the load test\",\"date\":\"2025-06-01\",\"category\":{\"id\":1}}");
+            case CHAT:
+                return post("/api/chat", apiKey, "text/plain", "add a concert called Load test on 2025-06-01");
+            default:
+                throw new IllegalArgumentException("Unknown operation: " + operation);
+        }
+    }
+
+    private HttpRequest get(String path, String apiKey) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("X-API-Key", apiKey)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String apiKey, String contentType, String body) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("X-API-Key", apiKey)
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    static class Report {
+        private final Map<Operation, Histogram> latencies = new LinkedHashMap<>();
+        private final Map<Operation, LongAdder> errors = new LinkedHashMap<>();
+        private Duration elapsed;
+
+        Report(Iterable<Operation> operations) {
+            for (Operation operation : operations) {
+                latencies.put(operation, new ConcurrentHistogram(HIGHEST_LATENCY_MICROS, 3));
+                errors.put(operation, new LongAdder());
+            }
+        }
+
+        void record(Operation operation, long micros, boolean ok) {
+            latencies.get(operation).recordValue(Math.min(micros, HIGHEST_LATENCY_MICROS));
+            if (!ok) {
+                errors.get(operation).increment();
+            }
+        }
+
+        long requests(Operation operation) {
+            return latencies.get(operation).getTotalCount();
+        }
+
+        long totalRequests() {
+            return total().getTotalCount();
+        }
+
+        long totalErrors() {
+            return errors.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+
+        double errorRate() {
+            long requests = totalRequests();
+            return requests == 0 ? 0 : (double) totalErrors() / requests;
+        }
+
+        Histogram total() {
+            Histogram total = new Histogram(HIGHEST_LATENCY_MICROS, 3);
+            latencies.values().forEach(total::add);
+            return total;
+        }
+
+        String format() {
+            StringBuilder out = new StringBuilder(String.format("%-12s %9s %9s %8s %9s %9s %9s %9s%n",
+                    "operation", "requests", "req/s", "errors", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+            latencies.forEach((operation, histogram) -> row(out, operation.key, histogram, errors.get(operation).sum()));
+            row(out, "total", total(), totalErrors());
+            return out.toString();
+        }
+
+        // One percentile distribution per operation (.hgrm), in milliseconds, for HdrHistogram plotters
+        void write(Path dir) throws IOException {
+            Files.createDirectories(dir);
+            for (Map.Entry<Operation, Histogram> entry : latencies.entrySet()) {
+                try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve(entry.getKey().key + ".hgrm")))) {
+                    entry.getValue().outputPercentileDistribution(out, 1000.0);
+                }
+            }
+            try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve("total.hgrm")))) {
+                total().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+
+        private void row(StringBuilder out, String label, Histogram histogram, long failed) {
+            out.append(String.format("%-12s %9d %9.1f %8d %9.2f %9.2f %9.2f %9.2f%n",
+                    label, histogram.getTotalCount(), histogram.getTotalCount() / (elapsed.toMillis() / 1000.0), failed,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue())));
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.eventsapp.load;
+
+import com.example.eventsapp.load.LoadGenerator.Operation;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoadGeneratorTest {
+
+    @Test
+    void parseMix_ShouldReadWeightsPerOperation() {
+        // Act
+        Map<Operation, Integer> mix = LoadGenerator.parseMix("list=20, get=45,chat=5");
+
+        // Assert
+        assertEquals(Map.of(Operation.LIST_EVENTS, 20, Operation.GET_EVENT, 45, Operation.CHAT, 5), mix);
+    }
+
+    @Test
+    void parseMix_WithUnknownOperation_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> LoadGenerator.parseMix("list=20,delete=5"));
+        assertThrows(IllegalArgumentException.class, () -> LoadGenerator.parseMix("list"));
+    }
+
+    @Test
+    void report_ShouldCountErrorsAcrossOperations() {
+        // Arrange
+        LoadGenerator.Report report = new LoadGenerator.Report(List.of(Operation.GET_EVENT, Operation.CHAT));
+
+        // Act
+        report.record(Operation.GET_EVENT, 1_000, true);
+        report.record(Operation.GET_EVENT, 3_000, true);
+        report.record(Operation.CHAT, 2_000, false);
+        report.record(Operation.CHAT, 4_000, true);
+
+        // Assert
+        assertEquals(2, report.requests(Operation.CHAT));
+        assertEquals(4, report.totalRequests());
+        assertEquals(0.25, report.errorRate());
+        assertEquals(4_000, report.total().getMaxValue(), 4);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.eventsapp.load;
+
+import com.example.eventsapp.model.Category;
+import com.example.eventsapp.model.Event;
+import com.example.eventsapp.service.EventService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * End-to-end load against the embedded server. Tagged {@code load}, so the default build
+ * skips it; the {@code load} profile runs it, by default as a few seconds of light load.
+ * Scale it up with system properties to check capacity locally, e.g.
+ * <pre>
+ * mvn -Pload test -Dload.clients=64 -Dload.seconds=60 -Dload.mix=list=10,get=60,categories=20,create=5,chat=5
+ * </pre>
+ * The table is printed and each operation's HDR percentile distribution is written to
+ * target/load-test/. The run fails when the error rate exceeds load.max-error-rate.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.datasource.url=jdbc:h2:mem:load;DB_CLOSE_DELAY=-1", "spring.jpa.show-sql=false"})
+@Tag("load")
+public class MixedWorkloadLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("load.clients", 8);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EventService eventService;
+
+    // Each client is a known API key, with a rate-limit bucket of its own
+    @DynamicPropertySource
+    static void apiKeys(DynamicPropertyRegistry registry) {
+        registry.add("app.rate-limit.api-keys", () -> IntStream.range(0, CLIENTS)
+                .mapToObj(LoadGenerator::apiKey)
+                .collect(Collectors.joining(",")));
+    }
+
+    @Test
+    void mixedWorkload_ShouldStayWithinTheErrorBudget() throws Exception {
+        // Arrange
+        int clients = CLIENTS;
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("load.warmup-seconds", 1));
+        Duration duration = Duration.ofSeconds(Integer.getInteger("load.seconds", 3));
+        String mix = System.getProperty("load.mix", "list=20,get=45,categories=20,create=10,chat=5");
+        double maxErrorRate = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+        List<Long> ids = seed(Integer.getInteger("load.events", 200));
+        LoadGenerator generator = new LoadGenerator(URI.create("http://localhost:" + port),
+                LoadGenerator.parseMix(mix), () -> ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+
+        // Act
+        LoadGenerator.Report report = generator.run(clients, warmup, duration);
+
+        // Assert
+        System.out.printf("Load test: %d clients, %s after %s warm-up, mix %s%n%s", clients, duration, warmup, mix,
+                report.format());
+        report.write(Path.of("target", "load-test"));
+        assertTrue(report.totalRequests() > 0);
+        assertTrue(report.errorRate() <= maxErrorRate,
+                () -> String.format("Error rate %.4f is above %.4f", report.errorRate(), maxErrorRate));
+    }
+
+    private List<Long> seed(int events) {
+        List<Long> ids = new ArrayList<>(events);
+        for (int i = 0; i < events; i++) {
+            Event event = new Event();
+            event.setType("event");
+            event.setTitle("Seeded event " + i);
+            event.setDescription("Lorem ipsum dolor sit amet. ".repeat(20));
+            event.setDate(LocalDate.of(2025, 1, 1).plusDays(i % 365));
+            Category category = new Category();
+            category.setId((long) (i % 9) + 1);
+            event.setCategory(category);
+            ids.add(eventService.createEvent(event).getId());
+        }
+        return ids;
+    }
+}
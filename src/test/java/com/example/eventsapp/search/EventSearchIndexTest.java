@@ -0,0 +1,126 @@
+package com.example.eventsapp.search;
+
+import com.example.eventsapp.model.Event;
+import com.example.eventsapp.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EventSearchIndexTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @InjectMocks
+    private EventSearchIndex searchIndex;
+
+    private Event concert;
+    private Event movie;
+
+    @BeforeEach
+    void setUp() {
+        concert = event(1L, "Jazz Concert in the Park", "An evening of live jazz music.");
+        movie = event(2L, "Movie Night", "Classic films and a little jazz between screenings.");
+        searchIndex.index(concert);
+        searchIndex.index(movie);
+    }
+
+    @Test
+    void tokenize_ShouldLowercaseSplitAndDropStopWords() {
+        // Act
+        List<String> tokens = EventSearchIndex.tokenize("The Jazz-Concert, in NYC! a 2025");
+
+        // Assert
+        assertEquals(Arrays.asList("jazz", "concert", "nyc", "2025"), tokens);
+    }
+
+    @Test
+    void search_ShouldRankTitleMatchesFirst() {
+        // Act
+        List<Long> ids = searchIndex.search("jazz", 10);
+
+        // Assert
+        assertEquals(Arrays.asList(1L, 2L), ids);
+    }
+
+    @Test
+    void search_WithSeveralTerms_ShouldRequireAllOfThem() {
+        // Act
+        List<Long> ids = searchIndex.search("JAZZ films", 10);
+
+        // Assert
+        assertEquals(Arrays.asList(2L), ids);
+    }
+
+    @Test
+    void search_WithUnknownTerm_ShouldReturnEmptyList() {
+        assertTrue(searchIndex.search("opera", 10).isEmpty());
+        assertTrue(searchIndex.search("the", 10).isEmpty());
+    }
+
+    @Test
+    void search_ShouldRespectLimit() {
+        assertEquals(Arrays.asList(1L), searchIndex.search("jazz", 1));
+    }
+
+    @Test
+    void index_WithExistingEvent_ShouldReplaceItsTerms() {
+        // Arrange
+        concert.setTitle("Opera Gala");
+        concert.setDescription("Arias all night.");
+
+        // Act
+        searchIndex.index(concert);
+
+        // Assert
+        assertEquals(Arrays.asList(2L), searchIndex.search("jazz", 10));
+        assertEquals(Arrays.asList(1L), searchIndex.search("opera", 10));
+        assertEquals(2, searchIndex.size());
+    }
+
+    @Test
+    void remove_ShouldDropEventFromResults() {
+        // Act
+        searchIndex.remove(2L);
+
+        // Assert
+        assertEquals(Arrays.asList(1L), searchIndex.search("jazz", 10));
+        assertTrue(searchIndex.search("films", 10).isEmpty());
+        assertEquals(1, searchIndex.size());
+    }
+
+    @Test
+    void rebuild_ShouldReloadIndexFromRepositoryInBatches() {
+        // Arrange
+        Event talk = event(3L, "Tech Talk", "Building search engines.");
+        when(eventRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, EventSearchIndex.REBUILD_BATCH_SIZE)))
+                .thenReturn(Arrays.asList(talk));
+
+        // Act
+        searchIndex.rebuild();
+
+        // Assert
+        assertEquals(1, searchIndex.size());
+        assertEquals(Arrays.asList(3L), searchIndex.search("search", 10));
+        assertTrue(searchIndex.search("jazz", 10).isEmpty());
+    }
+
+    private Event event(Long id, String title, String description) {
+        Event event = new Event();
+        event.setId(id);
+        event.setTitle(title);
+        event.setDescription(description);
+        return event;
+    }
+}
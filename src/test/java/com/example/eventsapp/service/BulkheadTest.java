@@ -0,0 +1,128 @@
+package com.example.eventsapp.service;
+
+import com.example.eventsapp.exception.QueueFullException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BulkheadTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private Bulkhead bulkhead;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (bulkhead != null) {
+            bulkhead.shutdown();
+        }
+    }
+
+    @Test
+    void submit_ShouldRunOnBulkheadThread() throws Exception {
+        // Arrange
+        bulkhead = new Bulkhead("reads", 1, 1, Duration.ofSeconds(5));
+
+        // Act
+        String thread = bulkhead.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals("bulkhead-reads-1", thread);
+    }
+
+    @Test
+    void submit_WhenQueueIsFull_ShouldRejectImmediately() throws Exception {
+        // Arrange
+        bulkhead = new Bulkhead("reads", 1, 1, Duration.ofSeconds(5));
+        CountDownLatch running = new CountDownLatch(1);
+        bulkhead.run(() -> {
+            running.countDown();
+            await(release);
+        });
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        bulkhead.submit(() -> "queued");
+
+        // Act & Assert
+        assertThrows(QueueFullException.class, () -> bulkhead.submit(() -> "rejected"));
+        assertEquals(1, bulkhead.getQueueDepth());
+        assertEquals(1, bulkhead.getRejectedCount());
+    }
+
+    @Test
+    void submit_WhenQueuedTooLong_ShouldFailWithoutRunning() throws Exception {
+        // Arrange
+        AtomicLong clock = new AtomicLong();
+        bulkhead = new Bulkhead("reads", 1, 1, Duration.ofSeconds(2), clock::get);
+        CountDownLatch running = new CountDownLatch(1);
+        bulkhead.run(() -> {
+            running.countDown();
+            await(release);
+        });
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> stale = bulkhead.submit(() -> fail("should not run"));
+
+        // Act
+        clock.addAndGet(Duration.ofSeconds(3).toNanos());
+        release.countDown();
+
+        // Assert
+        ExecutionException e = assertThrows(ExecutionException.class, () -> stale.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(QueueFullException.class, e.getCause());
+        assertEquals(1, bulkhead.getRejectedCount());
+    }
+
+    @Test
+    void submit_WhenQueuedWithinLimit_ShouldRun() throws Exception {
+        // Arrange
+        AtomicLong clock = new AtomicLong();
+        bulkhead = new Bulkhead("reads", 1, 1, Duration.ofSeconds(2), clock::get);
+        CountDownLatch running = new CountDownLatch(1);
+        bulkhead.run(() -> {
+            running.countDown();
+            await(release);
+        });
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = bulkhead.submit(() -> "ran");
+
+        // Act
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        release.countDown();
+
+        // Assert
+        assertEquals("ran", queued.get(5, TimeUnit.SECONDS));
+        assertEquals(0, bulkhead.getRejectedCount());
+    }
+
+    @Test
+    void inline_ShouldRunOnCallingThreadAndCaptureFailures() {
+        // Arrange
+        bulkhead = Bulkhead.inline("writes");
+
+        // Act
+        CompletableFuture<String> done = bulkhead.submit(() -> Thread.currentThread().getName());
+        CompletableFuture<String> failed = bulkhead.submit(() -> {
+            throw new IllegalArgumentException("bad input");
+        });
+
+        // Assert
+        assertEquals(Thread.currentThread().getName(), done.join());
+        assertTrue(failed.isCompletedExceptionally());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
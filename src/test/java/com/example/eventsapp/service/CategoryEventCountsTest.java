@@ -0,0 +1,127 @@
+package com.example.eventsapp.service;
+
+import com.example.eventsapp.dto.CategoryCount;
+import com.example.eventsapp.dto.ReconcileResult;
+import com.example.eventsapp.model.Category;
+import com.example.eventsapp.repository.EventRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CategoryEventCountsTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @InjectMocks
+    private CategoryEventCounts eventCounts;
+
+    @Test
+    void reconcile_ShouldLoadCountsFromOneGroupBy() {
+        // Arrange
+        when(eventRepository.countByCategory()).thenReturn(Arrays.asList(
+                new CategoryCount(1L, "Music", 3), new CategoryCount(2L, "Art", 1)));
+
+        // Act
+        ReconcileResult result = eventCounts.reconcile();
+
+        // Assert
+        assertEquals(2, result.getChecked());
+        assertEquals(2, result.getCorrected());
+        assertEquals(3, eventCounts.count(1L));
+        assertEquals(1, eventCounts.count(2L));
+        assertEquals(0, eventCounts.count(99L));
+    }
+
+    @Test
+    void moved_ShouldAdjustBothCategories() {
+        // Arrange
+        when(eventRepository.countByCategory()).thenReturn(List.of(new CategoryCount(1L, "Music", 3)));
+        eventCounts.reconcile();
+
+        // Act
+        eventCounts.moved(1L, 2L);
+        eventCounts.moved(null, 2L);
+        eventCounts.moved(1L, null);
+        eventCounts.moved(2L, 2L);
+
+        // Assert
+        assertEquals(1, eventCounts.count(1L));
+        assertEquals(2, eventCounts.count(2L));
+        verify(eventRepository, times(1)).countByCategory();
+    }
+
+    @Test
+    void moved_InsideTransaction_ShouldWaitForCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            eventCounts.moved(null, 1L);
+            eventCounts.added(Map.of(1L, 4L));
+
+            // Assert
+            assertEquals(0, eventCounts.count(1L));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertEquals(5, eventCounts.count(1L));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void reconcile_ShouldOnlyCorrectDriftedCounters() {
+        // Arrange
+        when(eventRepository.countByCategory())
+                .thenReturn(List.of(new CategoryCount(1L, "Music", 3), new CategoryCount(2L, "Art", 1)))
+                .thenReturn(List.of(new CategoryCount(1L, "Music", 3)));
+        eventCounts.reconcile();
+        eventCounts.moved(null, 1L); // drifts: the database still says 3
+
+        // Act
+        ReconcileResult result = eventCounts.reconcile();
+
+        // Assert
+        assertEquals(2, result.getChecked());
+        assertEquals(2, result.getCorrected());
+        assertEquals(3, eventCounts.count(1L));
+        assertEquals(0, eventCounts.count(2L));
+    }
+
+    @Test
+    void getStats_ShouldListEveryCategoryIncludingEmptyOnes() {
+        // Arrange
+        Category music = new Category();
+        music.setId(1L);
+        music.setName("Music");
+        Category art = new Category();
+        art.setId(2L);
+        art.setName("Art");
+        when(categoryService.getAllCategories()).thenReturn(Arrays.asList(music, art));
+        eventCounts.moved(null, 1L);
+
+        // Act
+        List<CategoryCount> stats = eventCounts.getStats();
+
+        // Assert
+        assertEquals(2, stats.size());
+        assertEquals(1, stats.get(0).getEventCount());
+        assertEquals("Art", stats.get(1).getName());
+        assertEquals(0, stats.get(1).getEventCount());
+    }
+}
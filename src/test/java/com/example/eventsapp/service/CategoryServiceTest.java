@@ -1,5 +1,8 @@
 package com.example.eventsapp.service;
 
+import com.example.eventsapp.dto.RegistryStats;
+import com.example.eventsapp.exception.NotFoundException;
+import com.example.eventsapp.exception.VersionConflictException;
 import com.example.eventsapp.model.Category;
 import com.example.eventsapp.repository.CategoryRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,10 +11,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -23,6 +28,12 @@ public class CategoryServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private DataVersion dataVersion;
+
+    @Mock
+    private ChangeFeed changeFeed;
+
     @InjectMocks
     private CategoryService categoryService;
 
@@ -54,7 +65,7 @@ public class CategoryServiceTest {
     @Test
     void getCategory_WithValidId_ShouldReturnCategory() {
         // Arrange
-        when(categoryRepository.findById(1L)).thenReturn(Optional.of(testCategory));
+        when(categoryRepository.findAll()).thenReturn(Arrays.asList(testCategory));
 
         // Act
         Category actualCategory = categoryService.getCategory(1L);
@@ -62,27 +73,26 @@ public class CategoryServiceTest {
         // Assert
         assertEquals(testCategory, actualCategory);
         assertEquals("Music", actualCategory.getName());
-        verify(categoryRepository, times(1)).findById(1L);
+        verify(categoryRepository, never()).findById(any(Long.class));
     }
 
     @Test
     void getCategory_WithInvalidId_ShouldThrowException() {
         // Arrange
-        when(categoryRepository.findById(999L)).thenReturn(Optional.empty());
+        when(categoryRepository.findAll()).thenReturn(Arrays.asList(testCategory));
 
         // Act & Assert
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+        RuntimeException exception = assertThrows(NotFoundException.class, () -> {
             categoryService.getCategory(999L);
         });
 
         assertEquals("Category not found with id: 999", exception.getMessage());
-        verify(categoryRepository, times(1)).findById(999L);
     }
 
     @Test
     void getCategoryByName_WithValidName_ShouldReturnCategory() {
         // Arrange
-        when(categoryRepository.findByName("Music")).thenReturn(Optional.of(testCategory));
+        when(categoryRepository.findAll()).thenReturn(Arrays.asList(testCategory));
 
         // Act
         Category actualCategory = categoryService.getCategoryByName("Music");
@@ -90,13 +100,13 @@ public class CategoryServiceTest {
         // Assert
         assertEquals(testCategory, actualCategory);
         assertEquals("Music", actualCategory.getName());
-        verify(categoryRepository, times(1)).findByName("Music");
+        verify(categoryRepository, never()).findByName(any(String.class));
     }
 
     @Test
     void getCategoryByName_WithInvalidName_ShouldThrowException() {
         // Arrange
-        when(categoryRepository.findByName("InvalidCategory")).thenReturn(Optional.empty());
+        when(categoryRepository.findAll()).thenReturn(Arrays.asList(testCategory));
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -104,7 +114,6 @@ public class CategoryServiceTest {
         });
 
         assertEquals("Category not found with name: InvalidCategory", exception.getMessage());
-        verify(categoryRepository, times(1)).findByName("InvalidCategory");
     }
 
     @Test
@@ -131,16 +140,16 @@ public class CategoryServiceTest {
         updatedCategory.setId(1L);
         updatedCategory.setName("Updated Music");
 
-        when(categoryRepository.existsById(1L)).thenReturn(true);
-        when(categoryRepository.save(any(Category.class))).thenReturn(testCategory);
+        when(categoryRepository.updateIfPresent(1L, "Updated Music")).thenReturn(1);
 
         // Act
         Category result = categoryService.updateCategory(updatedCategory);
 
         // Assert
-        assertEquals(testCategory, result);
-        verify(categoryRepository, times(1)).existsById(1L);
-        verify(categoryRepository, times(1)).save(updatedCategory);
+        assertEquals(updatedCategory, result);
+        assertEquals("Updated Music", categoryService.getCategory(1L).getName());
+        verify(categoryRepository, never()).existsById(any(Long.class));
+        verify(categoryRepository, never()).save(any(Category.class));
     }
 
     @Test
@@ -150,45 +159,87 @@ public class CategoryServiceTest {
         updatedCategory.setId(999L);
         updatedCategory.setName("Updated Category");
 
-        when(categoryRepository.existsById(999L)).thenReturn(false);
+        when(categoryRepository.updateIfPresent(999L, "Updated Category")).thenReturn(0);
 
         // Act & Assert
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+        RuntimeException exception = assertThrows(NotFoundException.class, () -> {
             categoryService.updateCategory(updatedCategory);
         });
 
         assertEquals("Category not found with id: 999", exception.getMessage());
-        verify(categoryRepository, times(1)).existsById(999L);
-        verify(categoryRepository, never()).save(any(Category.class));
+        verify(categoryRepository, never()).existsById(any(Long.class));
+        verify(dataVersion, never()).categoriesChanged();
     }
 
     @Test
-    void deleteCategory_WithValidId_ShouldDeleteCategory() {
+    void updateCategory_WithStaleVersion_ShouldThrowConflict() {
         // Arrange
+        Category updatedCategory = new Category();
+        updatedCategory.setId(1L);
+        updatedCategory.setName("Updated Music");
+        updatedCategory.setVersion(1L);
+
+        when(categoryRepository.updateIfCurrent(1L, 1L, "Updated Music")).thenReturn(0);
         when(categoryRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(categoryRepository).deleteById(1L);
+
+        // Act & Assert
+        assertThrows(VersionConflictException.class, () -> categoryService.updateCategory(updatedCategory));
+        verify(dataVersion, never()).categoriesChanged();
+    }
+
+    @Test
+    void updateCategory_WithCurrentVersion_ShouldBumpVersion() {
+        // Arrange
+        Category updatedCategory = new Category();
+        updatedCategory.setId(1L);
+        updatedCategory.setName("Updated Music");
+        updatedCategory.setVersion(1L);
+
+        when(categoryRepository.updateIfCurrent(1L, 1L, "Updated Music")).thenReturn(1);
+
+        // Act
+        Category result = categoryService.updateCategory(updatedCategory);
+
+        // Assert
+        assertEquals(2L, result.getVersion());
+        assertEquals(2L, categoryService.getCategory(1L).getVersion());
+    }
+
+    @Test
+    void deleteCategory_WithValidId_ShouldDeleteCategory() {
+        // Arrange
+        when(categoryRepository.deleteIfPresent(1L)).thenReturn(1);
 
         // Act
-        categoryService.deleteCategory(1L);
+        categoryService.deleteCategory(1L, null);
 
         // Assert
-        verify(categoryRepository, times(1)).existsById(1L);
-        verify(categoryRepository, times(1)).deleteById(1L);
+        verify(categoryRepository, times(1)).deleteIfPresent(1L);
+        verify(categoryRepository, never()).existsById(any(Long.class));
     }
 
     @Test
     void deleteCategory_WithInvalidId_ShouldThrowException() {
         // Arrange
-        when(categoryRepository.existsById(999L)).thenReturn(false);
+        when(categoryRepository.deleteIfPresent(999L)).thenReturn(0);
 
         // Act & Assert
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            categoryService.deleteCategory(999L);
+        RuntimeException exception = assertThrows(NotFoundException.class, () -> {
+            categoryService.deleteCategory(999L, null);
         });
 
         assertEquals("Category not found with id: 999", exception.getMessage());
-        verify(categoryRepository, times(1)).existsById(999L);
-        verify(categoryRepository, never()).deleteById(any(Long.class));
+        verify(dataVersion, never()).categoriesChanged();
+    }
+
+    @Test
+    void deleteCategory_WithStaleVersion_ShouldThrowConflict() {
+        // Arrange
+        when(categoryRepository.deleteIfCurrent(1L, 4L)).thenReturn(0);
+        when(categoryRepository.existsById(1L)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(VersionConflictException.class, () -> categoryService.deleteCategory(1L, 4L));
     }
 
     @Test
@@ -216,4 +267,122 @@ public class CategoryServiceTest {
         assertTrue(actualCategories.isEmpty());
         verify(categoryRepository, times(1)).findAll();
     }
-} 
\ No newline at end of file
+
+    @Test
+    void reads_AfterFirstLoad_ShouldBeServedFromSnapshot() {
+        // Arrange
+        when(categoryRepository.findAll()).thenReturn(Arrays.asList(testCategory));
+
+        // Act
+        categoryService.getAllCategories();
+        categoryService.getCategory(1L);
+        categoryService.getCategoryByName("Music");
+
+        // Assert
+        RegistryStats stats = categoryService.getRegistryStats();
+        assertEquals(1, stats.getMisses());
+        assertEquals(2, stats.getHits());
+        assertEquals(1, stats.getRefreshes());
+        assertEquals(1, stats.getSize());
+        verify(categoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    void createCategory_ShouldReplaceSnapshot() {
+        // Arrange
+        Category newCategory = new Category();
+        newCategory.setId(2L);
+        newCategory.setName("Art");
+        when(categoryRepository.findAll()).thenReturn(Arrays.asList(testCategory));
+        when(categoryRepository.save(newCategory)).thenReturn(newCategory);
+        categoryService.getAllCategories();
+
+        // Act
+        categoryService.createCategory(newCategory);
+
+        // Assert
+        assertEquals("Art", categoryService.getCategory(2L).getName());
+        assertEquals(2, categoryService.getAllCategories().size());
+        assertEquals(2, categoryService.getRegistryStats().getRefreshes());
+        verify(categoryRepository, times(1)).findAll();
+        verify(dataVersion, times(1)).categoriesChanged();
+    }
+
+    @Test
+    void deleteCategory_ShouldDropItFromSnapshot() {
+        // Arrange
+        when(categoryRepository.findAll()).thenReturn(Arrays.asList(testCategory));
+        when(categoryRepository.deleteIfPresent(1L)).thenReturn(1);
+
+        // Act
+        categoryService.deleteCategory(1L, null);
+
+        // Assert
+        assertThrows(RuntimeException.class, () -> categoryService.getCategory(1L));
+        assertTrue(categoryService.getAllCategories().isEmpty());
+        verify(categoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    void updateCategory_InsideTransaction_ShouldOnlyBeSharedOnceCommitted() throws Exception {
+        // Arrange
+        when(categoryRepository.findAll()).thenReturn(Arrays.asList(testCategory));
+        when(categoryRepository.updateIfPresent(1L, "Updated Music")).thenReturn(1);
+        Category updated = new Category();
+        updated.setId(1L);
+        updated.setName("Updated Music");
+        categoryService.getAllCategories();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        categoryService.updateCategory(updated);
+
+        // Assert
+        assertEquals("Updated Music", categoryService.getCategory(1L).getName());
+        assertEquals("Music", nameOnAnotherThread(1L));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals("Updated Music", nameOnAnotherThread(1L));
+        assertEquals("Updated Music", categoryService.getCategory(1L).getName());
+        verify(categoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    void updateCategory_WhenTransactionRollsBack_ShouldNeverBeVisible() throws Exception {
+        // Arrange
+        when(categoryRepository.findAll()).thenReturn(Arrays.asList(testCategory));
+        when(categoryRepository.updateIfPresent(1L, "Rolled back")).thenReturn(1);
+        Category updated = new Category();
+        updated.setId(1L);
+        updated.setName("Rolled back");
+        categoryService.getAllCategories();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        categoryService.updateCategory(updated);
+        String duringTransaction = nameOnAnotherThread(1L);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Assert
+        assertEquals("Music", duringTransaction);
+        assertEquals("Music", categoryService.getCategory(1L).getName());
+        assertEquals("Music", nameOnAnotherThread(1L));
+        // The shared snapshot was never touched, so nothing needed reloading
+        verify(categoryRepository, times(1)).findAll();
+    }
+
+    private String nameOnAnotherThread(Long id) throws Exception {
+        return CompletableFuture.supplyAsync(() -> categoryService.getCategory(id).getName()).get();
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        try {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronizations.forEach(TransactionSynchronization::afterCommit);
+            }
+            synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.eventsapp.service;
+
+import com.example.eventsapp.dto.Change;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChangeFeedTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private ScheduledExecutorService dispatcher;
+
+    private ExecutorService senders;
+
+    private ChangeFeed changeFeed;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = Executors.newSingleThreadScheduledExecutor();
+        // One sender keeps the tests' barrier simple; the stall test brings its own pool
+        senders = Executors.newSingleThreadExecutor();
+        changeFeed = new ChangeFeed(objectMapper, dispatcher, senders);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    @Test
+    void publish_ShouldFanOutToEverySubscriber() throws Exception {
+        // Arrange
+        RecordingEmitter first = subscribe(null);
+        RecordingEmitter second = subscribe(null);
+
+        // Act
+        changeFeed.publish(Change.eventDeleted(7L));
+        awaitDispatch();
+
+        // Assert
+        assertEquals(2, changeFeed.getSubscriberCount());
+        for (RecordingEmitter emitter : List.of(first, second)) {
+            String change = emitter.last();
+            assertTrue(change.contains("event:change\n"));
+            assertTrue(change.contains("\"action\":\"DELETED\""));
+            assertTrue(change.contains("\"id\":7"));
+        }
+    }
+
+    @Test
+    void subscribe_WithLastEventId_ShouldReplayOnlyMissedChanges() throws Exception {
+        // Arrange
+        RecordingEmitter original = subscribe(null);
+        changeFeed.publish(Change.eventDeleted(1L));
+        awaitDispatch();
+        String lastEventId = eventId(original.last());
+        changeFeed.publish(Change.eventDeleted(2L));
+        changeFeed.publish(Change.eventDeleted(3L));
+        awaitDispatch();
+
+        // Act
+        RecordingEmitter reconnected = subscribe(lastEventId);
+
+        // Assert
+        List<String> replayed = reconnected.changes();
+        assertEquals(2, replayed.size());
+        assertTrue(replayed.get(0).contains("\"id\":2"));
+        assertTrue(replayed.get(1).contains("\"id\":3"));
+    }
+
+    @Test
+    void subscribe_WhenMissedChangesLeftTheBuffer_ShouldSendReset() throws Exception {
+        // Arrange
+        RecordingEmitter original = subscribe(null);
+        changeFeed.publish(Change.eventDeleted(0L));
+        awaitDispatch();
+        String lastEventId = eventId(original.last());
+        for (long id = 1; id <= ChangeFeed.REPLAY_CAPACITY + 1; id++) {
+            changeFeed.publish(Change.eventDeleted(id));
+        }
+        awaitDispatch();
+
+        // Act
+        RecordingEmitter reconnected = subscribe(lastEventId);
+
+        // Assert
+        assertTrue(reconnected.changes().isEmpty());
+        assertTrue(reconnected.last().contains("event:reset\n"));
+    }
+
+    @Test
+    void subscribe_WithIdFromAnotherRun_ShouldSendReset() throws Exception {
+        // Act
+        RecordingEmitter reconnected = subscribe("oldepoch-42");
+
+        // Assert
+        assertTrue(reconnected.last().contains("event:reset\n"));
+    }
+
+    @Test
+    void publish_WhenSubscriberIsGone_ShouldDropIt() throws Exception {
+        // Arrange
+        RecordingEmitter broken = subscribe(null);
+        subscribe(null);
+        broken.failing = true;
+
+        // Act
+        changeFeed.publish(Change.eventDeleted(1L));
+        awaitDispatch();
+
+        // Assert
+        assertEquals(1, changeFeed.getSubscriberCount());
+    }
+
+    @Test
+    void publish_WhenSubscriberStopsReading_ShouldKeepServingTheOthers() throws Exception {
+        // Arrange
+        senders.shutdownNow();
+        senders = Executors.newFixedThreadPool(2);
+        changeFeed = new ChangeFeed(objectMapper, dispatcher, senders);
+        RecordingEmitter stalled = subscribe(null);
+        RecordingEmitter healthy = subscribe(null);
+        CountDownLatch release = new CountDownLatch(1);
+        stalled.blockUntil = release;
+        int changes = ChangeFeed.OUTBOX_CAPACITY + 2;
+
+        try {
+            // Act / Assert: the healthy subscriber keeps up while the stalled one's outbox fills
+            for (int count = 1; count <= changes; count++) {
+                changeFeed.publish(Change.eventDeleted((long) count));
+                assertTrue(healthy.awaitChanges(count, 5, TimeUnit.SECONDS), "healthy subscriber was held up");
+            }
+            awaitDispatch();
+            assertEquals(1, changeFeed.getSubscriberCount());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private RecordingEmitter subscribe(String lastEventId) throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        changeFeed.subscribe(emitter, lastEventId);
+        awaitDispatch();
+        return emitter;
+    }
+
+    // Waits for the dispatcher, then the sends it queued, then any drops they reported
+    private void awaitDispatch() throws Exception {
+        dispatcher.submit(() -> { }).get();
+        senders.submit(() -> { }).get();
+        dispatcher.submit(() -> { }).get();
+    }
+
+    private static String eventId(String event) {
+        return event.lines().filter(line -> line.startsWith("id:")).findFirst().orElseThrow().substring(3);
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+        volatile boolean failing;
+        // Stands in for a client whose socket buffer is full
+        volatile CountDownLatch blockUntil;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            if (blockUntil != null) {
+                try {
+                    blockUntil.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted", e);
+                }
+            }
+            sent.add(builder.build().stream().map(part -> part.getData().toString()).collect(Collectors.joining()));
+        }
+
+        boolean awaitChanges(int count, long timeout, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            while (changes().size() < count) {
+                if (System.nanoTime() > deadline) {
+                    return false;
+                }
+                Thread.sleep(10);
+            }
+            return true;
+        }
+
+        String last() {
+            return sent.get(sent.size() - 1);
+        }
+
+        List<String> changes() {
+            return new ArrayList<>(sent).stream().filter(event -> event.contains("event:change\n")).collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.eventsapp.service;
+
+import com.example.eventsapp.dto.ChatJob;
+import com.example.eventsapp.exception.NotFoundException;
+import com.example.eventsapp.exception.QueueFullException;
+import com.example.eventsapp.model.Event;
+import com.example.eventsapp.search.EventSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ChatCommandQueueTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EventSearchIndex searchIndex;
+
+    @Mock
+    private DataVersion dataVersion;
+
+    @Mock
+    private ChangeFeed changeFeed;
+
+    // The worker thread is only started by Spring, so tests drain on their own thread
+    private ChatCommandQueue chatQueue;
+
+    private final AtomicLong ids = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        chatQueue = new ChatCommandQueue(entityManager, transactionManager, searchIndex, dataVersion, changeFeed);
+    }
+
+    @Test
+    void submit_ShouldQueueWithoutTouchingTheDatabase() {
+        // Act
+        ChatJob job = chatQueue.submit("add a concert");
+
+        // Assert
+        assertEquals(ChatJob.Status.QUEUED, job.getStatus());
+        assertSame(job, chatQueue.getJob(job.getId()));
+        assertEquals(1, chatQueue.getQueueDepth());
+        verifyNoInteractions(entityManager, transactionManager);
+    }
+
+    @Test
+    void drain_ShouldPersistQueuedCommandsInOneTransaction() {
+        // Arrange
+        assignIdsOnPersist();
+        ChatJob first = chatQueue.submit("add a concert");
+        ChatJob second = chatQueue.submit("Add movie night");
+        ChatJob chatter = chatQueue.submit("hello there");
+
+        // Act
+        chatQueue.drainNow();
+
+        // Assert
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(entityManager, times(2)).persist(any(Event.class));
+        verify(entityManager, times(1)).flush();
+        verify(searchIndex, times(2)).index(any(Event.class));
+        verify(dataVersion, times(1)).eventsChanged();
+        assertEquals(ChatJob.Status.COMPLETED, chatQueue.getJob(first.getId()).getStatus());
+        assertEquals(1L, chatQueue.getJob(first.getId()).getEventId());
+        assertEquals(2L, chatQueue.getJob(second.getId()).getEventId());
+        assertNull(chatQueue.getJob(chatter.getId()).getEventId());
+        assertEquals("No command recognised", chatQueue.getJob(chatter.getId()).getMessage());
+        assertEquals(0, chatQueue.getQueueDepth());
+    }
+
+    @Test
+    void drain_ShouldSplitLargeBurstsIntoBatches() {
+        // Arrange
+        for (int i = 0; i < ChatCommandQueue.BATCH_SIZE + 1; i++) {
+            chatQueue.submit("add event " + i);
+        }
+
+        // Act
+        chatQueue.drainNow();
+
+        // Assert
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(ChatCommandQueue.BATCH_SIZE + 1)).persist(any(Event.class));
+    }
+
+    @Test
+    void drain_WhenBatchFails_ShouldReplayAndFailOnlyTheBadMessage() {
+        // Arrange
+        List<Event> pending = new ArrayList<>();
+        doAnswer(invocation -> pending.add(invocation.getArgument(0))).when(entityManager).persist(any(Event.class));
+        doAnswer(invocation -> {
+            boolean poisoned = pending.stream().anyMatch(event -> event.getDescription().contains("broken"));
+            pending.clear();
+            if (poisoned) {
+                throw new PersistenceException("value too long");
+            }
+            return null;
+        }).when(entityManager).flush();
+        ChatJob good = chatQueue.submit("add a concert");
+        ChatJob bad = chatQueue.submit("add something broken");
+
+        // Act
+        chatQueue.drainNow();
+
+        // Assert
+        assertEquals(ChatJob.Status.COMPLETED, chatQueue.getJob(good.getId()).getStatus());
+        assertEquals(ChatJob.Status.FAILED, chatQueue.getJob(bad.getId()).getStatus());
+        assertEquals("value too long", chatQueue.getJob(bad.getId()).getMessage());
+        verify(transactionManager, times(2)).rollback(any());
+        verify(searchIndex, times(1)).index(any(Event.class));
+        verify(dataVersion, times(1)).eventsChanged();
+    }
+
+    @Test
+    void submit_WhenQueueIsFull_ShouldRejectAndForgetTheJob() {
+        // Arrange
+        for (int i = 0; i < ChatCommandQueue.QUEUE_CAPACITY; i++) {
+            chatQueue.submit("add event " + i);
+        }
+
+        // Act & Assert
+        assertThrows(QueueFullException.class, () -> chatQueue.submit("add one more"));
+        assertEquals(ChatCommandQueue.QUEUE_CAPACITY, chatQueue.getQueueDepth());
+    }
+
+    @Test
+    void getJob_WithUnknownId_ShouldThrowNotFound() {
+        // Act & Assert
+        RuntimeException exception = assertThrows(NotFoundException.class, () -> chatQueue.getJob("nope"));
+        assertEquals("Chat job not found with id: nope", exception.getMessage());
+    }
+
+    private void assignIdsOnPersist() {
+        doAnswer(invocation -> {
+            Event event = invocation.getArgument(0);
+            event.setId(ids.incrementAndGet());
+            return null;
+        }).when(entityManager).persist(any(Event.class));
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.eventsapp.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DataVersionTest {
+
+    private final DataVersion dataVersion = new DataVersion();
+
+    @Test
+    void eventsChanged_ShouldOnlyBumpEvents() {
+        // Arrange
+        String events = dataVersion.events().getEtag();
+        String categories = dataVersion.categories().getEtag();
+
+        // Act
+        dataVersion.eventsChanged();
+
+        // Assert
+        assertNotEquals(events, dataVersion.events().getEtag());
+        assertEquals(categories, dataVersion.categories().getEtag());
+    }
+
+    @Test
+    void categoriesChanged_ShouldBumpCategoriesAndEvents() {
+        // Arrange
+        String events = dataVersion.events().getEtag();
+        String categories = dataVersion.categories().getEtag();
+
+        // Act
+        dataVersion.categoriesChanged();
+
+        // Assert
+        assertNotEquals(events, dataVersion.events().getEtag());
+        assertNotEquals(categories, dataVersion.categories().getEtag());
+    }
+}
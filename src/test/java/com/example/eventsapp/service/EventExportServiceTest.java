@@ -0,0 +1,137 @@
+package com.example.eventsapp.service;
+
+import com.example.eventsapp.model.Category;
+import com.example.eventsapp.model.Event;
+import com.example.eventsapp.repository.EventRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.hibernate.Session;
+import org.hibernate.jdbc.Work;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EventExportServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Session session;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+
+    private EventExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new EventExportService(eventRepository, entityManager, objectMapper);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+    }
+
+    @Test
+    void exportNdjson_ShouldWriteOneJsonObjectPerLine() throws Exception {
+        // Arrange
+        when(eventRepository.streamAllWithCategory()).thenReturn(Stream.of(event(1L), event(2L)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long count = exportService.exportNdjson(out);
+
+        // Assert
+        assertEquals(2, count);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(1L, first.get("id").asLong());
+        assertEquals("Music", first.get("category").get("name").asText());
+        assertEquals("2024-12-25", first.get("date").asText());
+        assertEquals(2L, objectMapper.readTree(lines[1]).get("id").asLong());
+        verify(entityManager, never()).clear();
+    }
+
+    @Test
+    void exportNdjson_ShouldClearPersistenceContextEveryInterval() throws Exception {
+        // Arrange
+        int rows = EventExportService.CLEAR_INTERVAL * 2 + 1;
+        when(eventRepository.streamAllWithCategory()).thenReturn(LongStream.rangeClosed(1, rows).mapToObj(this::event));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long count = exportService.exportNdjson(out);
+
+        // Assert
+        assertEquals(rows, count);
+        assertEquals(rows, out.toString(StandardCharsets.UTF_8).split("\n").length);
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void exportNdjson_WithNoEvents_ShouldWriteNothing() throws Exception {
+        // Arrange
+        when(eventRepository.streamAllWithCategory()).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act & Assert
+        assertEquals(0, exportService.exportNdjson(out));
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    void exportNdjson_ShouldStreamWithLazyQueryExecutionAndThenRestoreIt() throws Exception {
+        // Arrange
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Work.class).execute(connection);
+            return null;
+        }).when(session).doWork(any(Work.class));
+        when(eventRepository.streamAllWithCategory()).thenReturn(Stream.of(event(1L)));
+
+        // Act
+        exportService.exportNdjson(new ByteArrayOutputStream());
+
+        // Assert
+        InOrder inOrder = inOrder(statement, eventRepository);
+        inOrder.verify(statement).execute("SET LAZY_QUERY_EXECUTION 1");
+        inOrder.verify(eventRepository).streamAllWithCategory();
+        inOrder.verify(statement).execute("SET LAZY_QUERY_EXECUTION 0");
+    }
+
+    private Event event(long id) {
+        Category category = new Category();
+        category.setId(1L);
+        category.setName("Music");
+        Event event = new Event();
+        event.setId(id);
+        event.setTitle("Event " + id);
+        event.setType("concert");
+        event.setDescription("Description " + id);
+        event.setDate(LocalDate.of(2024, 12, 25));
+        event.setCategory(category);
+        return event;
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.eventsapp.service;
+
+import com.example.eventsapp.dto.EventImportRow;
+import com.example.eventsapp.dto.ImportResult;
+import com.example.eventsapp.model.Category;
+import com.example.eventsapp.model.Event;
+import com.example.eventsapp.repository.CategoryRepository;
+import com.example.eventsapp.search.EventSearchIndex;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EventImportServiceTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EventSearchIndex searchIndex;
+
+    @Mock
+    private DataVersion dataVersion;
+
+    @Mock
+    private ChangeFeed changeFeed;
+
+    @Mock
+    private CategoryEventCounts eventCounts;
+
+    private EventImportService importService;
+
+    private Category music;
+
+    @BeforeEach
+    void setUp() {
+        importService = new EventImportService(categoryRepository, entityManager, transactionManager, searchIndex, dataVersion, changeFeed, eventCounts);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+
+        music = new Category();
+        music.setId(1L);
+        music.setName("music");
+    }
+
+    @Test
+    void importEvents_ShouldPersistInBatchesWithOneCategoryQueryEach() {
+        // Arrange
+        when(categoryRepository.findByNameIn(Set.of("music"))).thenReturn(Arrays.asList(music));
+        List<EventImportRow> rows = Arrays.asList(row("A", "music"), row("B", "music"), row("C", "music"));
+
+        // Act
+        ImportResult result = importService.importEvents(rows, 2);
+
+        // Assert
+        assertEquals(3, result.getReceived());
+        assertEquals(3, result.getImported());
+        assertEquals(0, result.getFailed());
+        ArgumentCaptor<Event> persisted = ArgumentCaptor.forClass(Event.class);
+        verify(entityManager, times(3)).persist(persisted.capture());
+        assertSame(music, persisted.getValue().getCategory());
+        verify(categoryRepository, times(2)).findByNameIn(any());
+        verify(session).setJdbcBatchSize(2);
+        verify(session).setJdbcBatchSize(1);
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+        verify(searchIndex, times(3)).index(any(Event.class));
+        verify(dataVersion, times(1)).eventsChanged();
+    }
+
+    @Test
+    void importEvents_WithInvalidRows_ShouldReportThemAndImportTheRest() {
+        // Arrange
+        when(categoryRepository.findByNameIn(Set.of("music", "nope"))).thenReturn(Arrays.asList(music));
+        List<EventImportRow> rows = Arrays.asList(row("A", "music"), row(" ", "music"), row("C", "nope"), row("D", null));
+
+        // Act
+        ImportResult result = importService.importEvents(rows, 10);
+
+        // Assert
+        assertEquals(2, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertEquals(2, result.getErrors().get(0).getRow());
+        assertEquals("Title is required", result.getErrors().get(0).getMessage());
+        assertEquals(3, result.getErrors().get(1).getRow());
+        assertEquals("Category not found with name: nope", result.getErrors().get(1).getMessage());
+        verify(entityManager, times(2)).persist(any(Event.class));
+    }
+
+    @Test
+    void importEvents_WithUnscheduledOrInvalidDates_ShouldMapOrReportThem() {
+        // Arrange
+        EventImportRow tbd = row("Later", null);
+        tbd.setDate("TBD");
+        EventImportRow blank = row("Someday", null);
+        blank.setDate("");
+        EventImportRow invalid = row("Broken", null);
+        invalid.setDate("31/12/2025");
+
+        // Act
+        ImportResult result = importService.importEvents(Arrays.asList(tbd, blank, invalid), 10);
+
+        // Assert
+        assertEquals(2, result.getImported());
+        assertEquals(3, result.getErrors().get(0).getRow());
+        assertEquals("Invalid date (expected yyyy-MM-dd): 31/12/2025", result.getErrors().get(0).getMessage());
+        ArgumentCaptor<Event> persisted = ArgumentCaptor.forClass(Event.class);
+        verify(entityManager, times(2)).persist(persisted.capture());
+        assertTrue(persisted.getAllValues().stream().allMatch(Event::isUnscheduled));
+    }
+
+    @Test
+    void importEvents_WhenBatchFlushFails_ShouldReplayRowsIndividually() {
+        // Arrange
+        List<Event> pending = new ArrayList<>();
+        doAnswer(invocation -> pending.add(invocation.getArgument(0))).when(entityManager).persist(any(Event.class));
+        doAnswer(invocation -> {
+            boolean poisoned = pending.stream().anyMatch(event -> "Broken".equals(event.getTitle()));
+            pending.clear();
+            if (poisoned) {
+                throw new PersistenceException("value too long");
+            }
+            return null;
+        }).when(entityManager).flush();
+        List<EventImportRow> rows = Arrays.asList(row("A", null), row("Broken", null), row("C", null));
+
+        // Act
+        ImportResult result = importService.importEvents(rows, 3);
+
+        // Assert
+        assertEquals(2, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(2, result.getErrors().get(0).getRow());
+        assertEquals("value too long", result.getErrors().get(0).getMessage());
+        verify(transactionManager, times(2)).rollback(any());
+        verify(searchIndex, times(2)).index(any(Event.class));
+    }
+
+    @Test
+    void importEvents_WithOversizedBatch_ShouldClampToMaxBatchSize() {
+        // Arrange
+        List<EventImportRow> rows = new ArrayList<>();
+        for (int i = 0; i < EventImportService.MAX_BATCH_SIZE + 1; i++) {
+            rows.add(row("Event " + i, null));
+        }
+
+        // Act
+        ImportResult result = importService.importEvents(rows, Integer.MAX_VALUE);
+
+        // Assert
+        assertEquals(rows.size(), result.getImported());
+        verify(entityManager, times(2)).flush();
+        verify(categoryRepository, never()).findByNameIn(any());
+    }
+
+    @Test
+    void importCsv_ShouldMapHeaderColumnsToRows() throws Exception {
+        // Arrange
+        when(categoryRepository.findByNameIn(Set.of("music"))).thenReturn(Arrays.asList(music));
+        String csv = "type,title,description,date,image,category\n"
+                + "concert,\"Jazz, live\",Late show,2025-01-10,,music\n";
+
+        // Act
+        ImportResult result = importService.importCsv(new StringReader(csv), 50);
+
+        // Assert
+        assertEquals(1, result.getImported());
+        ArgumentCaptor<Event> persisted = ArgumentCaptor.forClass(Event.class);
+        verify(entityManager).persist(persisted.capture());
+        assertEquals("Jazz, live", persisted.getValue().getTitle());
+        assertEquals(LocalDate.of(2025, 1, 10), persisted.getValue().getDate());
+        assertSame(music, persisted.getValue().getCategory());
+    }
+
+    private EventImportRow row(String title, String category) {
+        EventImportRow row = new EventImportRow();
+        row.setType("concert");
+        row.setTitle(title);
+        row.setDescription("Imported " + title);
+        row.setDate("2025-01-01");
+        row.setCategory(category);
+        return row;
+    }
+}
@@ -1,18 +1,37 @@
 package com.example.eventsapp.service;
 
+import com.example.eventsapp.dto.Change;
+import com.example.eventsapp.dto.CursorPage;
+import com.example.eventsapp.dto.EventBatch;
+import com.example.eventsapp.dto.EventSummary;
+import com.example.eventsapp.exception.NotFoundException;
+import com.example.eventsapp.exception.VersionConflictException;
 import com.example.eventsapp.model.Event;
 import com.example.eventsapp.model.Category;
+import com.example.eventsapp.repository.CategoryRepository;
 import com.example.eventsapp.repository.EventRepository;
+import com.example.eventsapp.search.EventSearchIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.data.domain.PageRequest;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -24,6 +43,27 @@ public class EventServiceTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private EventSearchIndex searchIndex;
+
+    @Mock
+    private DataVersion dataVersion;
+
+    @Mock
+    private ChangeFeed changeFeed;
+
+    @Mock
+    private CategoryEventCounts eventCounts;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private EntityManagerFactory entityManagerFactory;
+
     @InjectMocks
     private EventService eventService;
 
@@ -41,25 +81,57 @@ public class EventServiceTest {
         testEvent.setTitle("Test Concert");
         testEvent.setType("concert");
         testEvent.setDescription("A test concert");
-        testEvent.setDate("2024-12-25");
+        testEvent.setDate(LocalDate.of(2024, 12, 25));
         testEvent.setImage("test-image.jpg");
         testEvent.setCategory(testCategory);
+
+        // The registry knows the test category; tests without categories never ask
+        lenient().when(categoryService.exists(1L)).thenReturn(true);
+        lenient().when(categoryService.getCategory(1L)).thenReturn(testCategory);
+        lenient().when(dataVersion.events()).thenReturn(new DataVersion.Stamp("v1", 0L));
+    }
+
+    @Test
+    void getEvents_ShouldKeepRequestOrderAndReportMissingIds() {
+        // Arrange
+        Event second = new Event();
+        second.setId(2L);
+        second.setTitle("Second");
+        second.setCategory(testCategory);
+        when(eventRepository.findAllById(List.of(2L, 9L, 1L))).thenReturn(Arrays.asList(testEvent, second));
+
+        // Act
+        EventBatch batch = eventService.getEvents(List.of(2L, 9L, 1L, 2L));
+
+        // Assert
+        assertEquals(List.of(second, testEvent), batch.getEvents());
+        assertEquals(List.of(9L), batch.getMissingIds());
+        assertSame(testCategory, batch.getEvents().get(0).getCategory());
     }
 
     @Test
-    void getAllEvents_ShouldReturnAllEvents() {
+    void getEvents_ShouldQueryInChunks() {
         // Arrange
-        List<Event> expectedEvents = Arrays.asList(testEvent);
-        when(eventRepository.findAll()).thenReturn(expectedEvents);
+        List<Long> ids = LongStream.rangeClosed(1, EventService.ID_CHUNK_SIZE + 1).boxed().collect(Collectors.toList());
+        when(eventRepository.findAllById(any())).thenReturn(List.of());
 
         // Act
-        List<Event> actualEvents = eventService.getAllEvents();
+        EventBatch batch = eventService.getEvents(ids);
 
         // Assert
-        assertEquals(expectedEvents, actualEvents);
-        assertEquals(1, actualEvents.size());
-        assertEquals("Test Concert", actualEvents.get(0).getTitle());
-        verify(eventRepository, times(1)).findAll();
+        verify(eventRepository).findAllById(ids.subList(0, EventService.ID_CHUNK_SIZE));
+        verify(eventRepository).findAllById(List.of((long) EventService.ID_CHUNK_SIZE + 1));
+        assertEquals(ids, batch.getMissingIds());
+    }
+
+    @Test
+    void getEvents_WithTooManyIds_ShouldThrowWithoutQuerying() {
+        // Arrange
+        List<Long> ids = LongStream.rangeClosed(1, EventService.MAX_BATCH_IDS + 1).boxed().collect(Collectors.toList());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> eventService.getEvents(ids));
+        verify(eventRepository, never()).findAllById(any());
     }
 
     @Test
@@ -76,13 +148,47 @@ public class EventServiceTest {
         verify(eventRepository, times(1)).findById(1L);
     }
 
+    @Test
+    void getEvent_ConcurrentCalls_ShouldShareOneLookupUntilEventsChange() throws Exception {
+        // Arrange: the first lookup blocks until released
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch looking = new CountDownLatch(1);
+        when(eventRepository.findById(1L)).thenAnswer(invocation -> {
+            looking.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(testEvent);
+        });
+        ExecutorService callers = Executors.newFixedThreadPool(3);
+        try {
+            Future<Event> leader = callers.submit(() -> eventService.getEvent(1L));
+            assertTrue(looking.await(5, TimeUnit.SECONDS));
+            Future<Event> follower = callers.submit(() -> eventService.getEvent(1L));
+            Thread.sleep(100);
+
+            // Act: after a write, callers start a lookup of their own
+            when(dataVersion.events()).thenReturn(new DataVersion.Stamp("v2", 0L));
+            Future<Event> afterWrite = callers.submit(() -> eventService.getEvent(1L));
+            Thread.sleep(100);
+            release.countDown();
+
+            // Assert
+            assertSame(testEvent, leader.get(5, TimeUnit.SECONDS));
+            assertSame(testEvent, follower.get(5, TimeUnit.SECONDS));
+            assertSame(testEvent, afterWrite.get(5, TimeUnit.SECONDS));
+            verify(eventRepository, times(2)).findById(1L);
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+    }
+
     @Test
     void getEvent_WithInvalidId_ShouldThrowException() {
         // Arrange
         when(eventRepository.findById(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+        RuntimeException exception = assertThrows(NotFoundException.class, () -> {
             eventService.getEvent(999L);
         });
 
@@ -97,7 +203,7 @@ public class EventServiceTest {
         newEvent.setTitle("New Event");
         newEvent.setType("movie");
         newEvent.setDescription("A new event");
-        newEvent.setDate("2024-12-26");
+        newEvent.setDate(LocalDate.of(2024, 12, 26));
 
         when(eventRepository.save(any(Event.class))).thenReturn(testEvent);
 
@@ -108,6 +214,54 @@ public class EventServiceTest {
         assertEquals(testEvent, savedEvent);
         assertEquals("Test Concert", savedEvent.getTitle());
         verify(eventRepository, times(1)).save(newEvent);
+        verify(searchIndex, times(1)).index(testEvent);
+        verify(dataVersion, times(1)).eventsChanged();
+        ArgumentCaptor<Change> change = ArgumentCaptor.forClass(Change.class);
+        verify(changeFeed).publish(change.capture());
+        assertEquals(Change.Action.CREATED, change.getValue().getAction());
+        assertEquals("Test Concert", ((EventSummary) change.getValue().getData()).getTitle());
+    }
+
+    @Test
+    void createEvent_WithCategoryId_ShouldAttachReferenceWithoutLoadingIt() {
+        // Arrange
+        Category sent = new Category();
+        sent.setId(1L);
+        sent.setName("Renamed by the client");
+        Event newEvent = new Event();
+        newEvent.setTitle("New Event");
+        newEvent.setCategory(sent);
+        Category reference = new Category();
+        reference.setId(1L);
+        when(categoryRepository.getReferenceById(1L)).thenReturn(reference);
+        when(eventRepository.save(newEvent)).thenAnswer(invocation -> {
+            // What reaches the repository is the bare reference, not the client's copy
+            assertSame(reference, newEvent.getCategory());
+            return newEvent;
+        });
+
+        // Act
+        Event savedEvent = eventService.createEvent(newEvent);
+
+        // Assert
+        assertEquals("Music", savedEvent.getCategory().getName());
+        verify(categoryRepository, never()).findById(any());
+        verify(eventCounts).moved(null, 1L);
+    }
+
+    @Test
+    void createEvent_WithUnknownCategory_ShouldRejectWithoutSaving() {
+        // Arrange
+        Category unknown = new Category();
+        unknown.setId(42L);
+        testEvent.setCategory(unknown);
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> eventService.createEvent(testEvent));
+        assertEquals("Category not found with id: 42", exception.getMessage());
+        verify(eventRepository, never()).save(any());
+        verify(categoryRepository, never()).getReferenceById(any());
     }
 
     @Test
@@ -118,18 +272,20 @@ public class EventServiceTest {
         updatedEvent.setTitle("Updated Event");
         updatedEvent.setType("event");
         updatedEvent.setDescription("An updated event");
-        updatedEvent.setDate("2024-12-27");
+        updatedEvent.setDate(LocalDate.of(2024, 12, 27));
 
-        when(eventRepository.existsById(1L)).thenReturn(true);
-        when(eventRepository.save(any(Event.class))).thenReturn(testEvent);
+        when(eventRepository.updateIfPresent(updatedEvent, null)).thenReturn(1);
 
         // Act
         Event result = eventService.updateEvent(updatedEvent);
 
         // Assert
-        assertEquals(testEvent, result);
-        verify(eventRepository, times(1)).existsById(1L);
-        verify(eventRepository, times(1)).save(updatedEvent);
+        assertEquals(updatedEvent, result);
+        verify(eventRepository, times(1)).updateIfPresent(updatedEvent, null);
+        verify(eventRepository, never()).existsById(any(Long.class));
+        verify(eventRepository, never()).save(any(Event.class));
+        verify(searchIndex, times(1)).index(updatedEvent);
+        verify(dataVersion, times(1)).eventsChanged();
     }
 
     @Test
@@ -139,45 +295,128 @@ public class EventServiceTest {
         updatedEvent.setId(999L);
         updatedEvent.setTitle("Updated Event");
 
-        when(eventRepository.existsById(999L)).thenReturn(false);
+        when(eventRepository.updateIfPresent(updatedEvent, null)).thenReturn(0);
 
         // Act & Assert
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+        RuntimeException exception = assertThrows(NotFoundException.class, () -> {
             eventService.updateEvent(updatedEvent);
         });
 
         assertEquals("Event not found with id: 999", exception.getMessage());
-        verify(eventRepository, times(1)).existsById(999L);
-        verify(eventRepository, never()).save(any(Event.class));
+        verify(eventRepository, never()).existsById(any(Long.class));
+        verify(dataVersion, never()).eventsChanged();
     }
 
     @Test
-    void deleteEvent_WithValidId_ShouldDeleteEvent() {
+    void updateEvent_WithCurrentVersion_ShouldBumpVersion() {
         // Arrange
+        testEvent.setVersion(3L);
+        Category reference = new Category();
+        when(categoryRepository.getReferenceById(1L)).thenReturn(reference);
+        when(eventRepository.updateIfCurrent(testEvent, reference)).thenReturn(1);
+
+        // Act
+        Event result = eventService.updateEvent(testEvent);
+
+        // Assert
+        assertEquals(4L, result.getVersion());
+        verify(eventRepository, never()).updateIfPresent(any(), any());
+    }
+
+    @Test
+    void updateEvent_WithNewCategory_ShouldMoveItsCount() {
+        // Arrange
+        Category reference = new Category();
+        reference.setId(1L);
+        when(categoryRepository.getReferenceById(1L)).thenReturn(reference);
+        when(eventRepository.findCategoryIdForUpdate(1L)).thenReturn(2L);
+        when(eventRepository.updateIfPresent(testEvent, reference)).thenReturn(1);
+
+        // Act
+        eventService.updateEvent(testEvent);
+
+        // Assert
+        verify(eventCounts).moved(2L, 1L);
+    }
+
+    @Test
+    void updateEvent_WithStaleVersion_ShouldThrowConflict() {
+        // Arrange
+        testEvent.setVersion(3L);
+        Category reference = new Category();
+        when(categoryRepository.getReferenceById(1L)).thenReturn(reference);
+        when(eventRepository.updateIfCurrent(testEvent, reference)).thenReturn(0);
         when(eventRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(eventRepository).deleteById(1L);
+
+        // Act & Assert
+        assertThrows(VersionConflictException.class, () -> eventService.updateEvent(testEvent));
+        assertEquals(3L, testEvent.getVersion());
+        verify(searchIndex, never()).index(any(Event.class));
+        verify(eventCounts, never()).moved(any(), any());
+        verify(dataVersion, never()).eventsChanged();
+    }
+
+    @Test
+    void updateEvent_WithUnsavedCategory_ShouldRejectRequest() {
+        // Arrange
+        Category unsaved = new Category();
+        unsaved.setName("New");
+        testEvent.setCategory(unsaved);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> eventService.updateEvent(testEvent));
+        verify(eventRepository, never()).updateIfPresent(any(), any());
+    }
+
+    @Test
+    void deleteEvent_WithValidId_ShouldDeleteEvent() {
+        // Arrange
+        when(eventRepository.deleteIfPresent(1L)).thenReturn(1);
 
         // Act
-        eventService.deleteEvent(1L);
+        eventService.deleteEvent(1L, null);
 
         // Assert
-        verify(eventRepository, times(1)).existsById(1L);
-        verify(eventRepository, times(1)).deleteById(1L);
+        verify(eventRepository, times(1)).deleteIfPresent(1L);
+        verify(eventRepository, never()).existsById(any(Long.class));
+        verify(searchIndex, times(1)).remove(1L);
+        verify(dataVersion, times(1)).eventsChanged();
+        verify(changeFeed).publish(argThat(change -> change.getAction() == Change.Action.DELETED && change.getId() == 1L));
     }
 
     @Test
     void deleteEvent_WithInvalidId_ShouldThrowException() {
         // Arrange
-        when(eventRepository.existsById(999L)).thenReturn(false);
+        when(eventRepository.deleteIfPresent(999L)).thenReturn(0);
 
         // Act & Assert
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            eventService.deleteEvent(999L);
+        RuntimeException exception = assertThrows(NotFoundException.class, () -> {
+            eventService.deleteEvent(999L, null);
         });
 
         assertEquals("Event not found with id: 999", exception.getMessage());
-        verify(eventRepository, times(1)).existsById(999L);
-        verify(eventRepository, never()).deleteById(any(Long.class));
+        verify(searchIndex, never()).remove(any(Long.class));
+    }
+
+    @Test
+    void deleteEvent_WithStaleVersion_ShouldThrowConflict() {
+        // Arrange
+        when(eventRepository.deleteIfCurrent(1L, 2L)).thenReturn(0);
+        when(eventRepository.existsById(1L)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(VersionConflictException.class, () -> eventService.deleteEvent(1L, 2L));
+        verify(searchIndex, never()).remove(any(Long.class));
+    }
+
+    @Test
+    void deleteEvent_WithVersionOfMissingEvent_ShouldThrowNotFound() {
+        // Arrange
+        when(eventRepository.deleteIfCurrent(999L, 2L)).thenReturn(0);
+        when(eventRepository.existsById(999L)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(NotFoundException.class, () -> eventService.deleteEvent(999L, 2L));
     }
 
     @Test
@@ -194,15 +433,205 @@ public class EventServiceTest {
     }
 
     @Test
-    void getAllEvents_WhenRepositoryReturnsEmptyList_ShouldReturnEmptyList() {
+    void getEventsPage_WithMoreRows_ShouldReturnNextCursor() {
+        // Arrange
+        EventSummary first = summary(1L);
+        when(eventRepository.findSummariesAfter(0L, PageRequest.of(0, 2)))
+                .thenReturn(Arrays.asList(first, summary(2L)));
+
+        // Act
+        CursorPage<EventSummary> page = eventService.getEventsPage(null, null, 1);
+
+        // Assert
+        assertEquals(1, page.getItems().size());
+        assertEquals(first, page.getItems().get(0));
+        assertNotNull(page.getNextCursor());
+    }
+
+    @Test
+    void getEventsPage_ConcurrentCalls_ShouldShareOneQueryUntilEventsChange() throws Exception {
+        // Arrange: the first query blocks until released
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch querying = new CountDownLatch(1);
+        List<EventSummary> rows = Arrays.asList(summary(1L));
+        when(eventRepository.findSummariesByCategoryAfter(1L, 0L, PageRequest.of(0, 21))).thenAnswer(invocation -> {
+            querying.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return rows;
+        });
+        ExecutorService callers = Executors.newFixedThreadPool(3);
+        try {
+            Future<CursorPage<EventSummary>> leader = callers.submit(() -> eventService.getEventsPage(1L, null, 20));
+            assertTrue(querying.await(5, TimeUnit.SECONDS));
+            // An empty cursor is the same first page
+            Future<CursorPage<EventSummary>> follower = callers.submit(() -> eventService.getEventsPage(1L, "", 20));
+            Thread.sleep(100);
+
+            // Act: after a write, callers start a query of their own
+            when(dataVersion.events()).thenReturn(new DataVersion.Stamp("v2", 0L));
+            Future<CursorPage<EventSummary>> afterWrite = callers.submit(() -> eventService.getEventsPage(1L, null, 20));
+            Thread.sleep(100);
+            release.countDown();
+
+            // Assert
+            CursorPage<EventSummary> shared = leader.get(5, TimeUnit.SECONDS);
+            assertEquals(rows, shared.getItems());
+            assertSame(shared, follower.get(5, TimeUnit.SECONDS));
+            assertEquals(rows, afterWrite.get(5, TimeUnit.SECONDS).getItems());
+            verify(eventRepository, times(2)).findSummariesByCategoryAfter(1L, 0L, PageRequest.of(0, 21));
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void getEventsPage_WithCursor_ShouldSeekPastLastId() {
+        // Arrange
+        when(eventRepository.findSummariesAfter(0L, PageRequest.of(0, 2)))
+                .thenReturn(Arrays.asList(summary(1L), summary(2L)));
+        String cursor = eventService.getEventsPage(null, null, 1).getNextCursor();
+        when(eventRepository.findSummariesAfter(1L, PageRequest.of(0, 2)))
+                .thenReturn(Arrays.asList());
+
+        // Act
+        CursorPage<EventSummary> page = eventService.getEventsPage(null, cursor, 1);
+
+        // Assert
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextCursor());
+        verify(eventRepository, times(1)).findSummariesAfter(1L, PageRequest.of(0, 2));
+    }
+
+    @Test
+    void getEventsPage_WithOversizedPage_ShouldClampToMaxPageSize() {
+        // Arrange
+        when(eventRepository.findSummariesAfter(0L, PageRequest.of(0, EventService.MAX_PAGE_SIZE + 1)))
+                .thenReturn(Arrays.asList(summary(1L)));
+
+        // Act
+        CursorPage<EventSummary> page = eventService.getEventsPage(null, null, 10_000);
+
+        // Assert
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getEventsPage_WithMalformedCursor_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> eventService.getEventsPage(null, "not-a-cursor!", 10));
+        verify(eventRepository, never()).findSummariesAfter(any(Long.class), any());
+    }
+
+    @Test
+    void getEventsPage_WithCategory_ShouldUseCategoryQuery() {
+        // Arrange
+        when(eventRepository.findSummariesByCategoryAfter(1L, 0L, PageRequest.of(0, 11)))
+                .thenReturn(Arrays.asList(summary(1L)));
+
+        // Act
+        CursorPage<EventSummary> page = eventService.getEventsPage(1L, null, 10);
+
+        // Assert
+        assertEquals(1, page.getItems().size());
+        verify(eventRepository, never()).findSummariesAfter(any(Long.class), any());
+    }
+
+    @Test
+    void searchEvents_ShouldReturnSummariesInIndexRankOrder() {
+        // Arrange
+        when(searchIndex.search("jazz", 10)).thenReturn(Arrays.asList(3L, 1L, 2L));
+        when(eventRepository.findSummariesByIds(Arrays.asList(3L, 1L, 2L)))
+                .thenReturn(Arrays.asList(summary(1L), summary(3L)));
+
+        // Act
+        List<EventSummary> results = eventService.searchEvents("jazz", 10);
+
+        // Assert
+        assertEquals(2, results.size());
+        assertEquals(3L, results.get(0).getId());
+        assertEquals(1L, results.get(1).getId());
+    }
+
+    @Test
+    void searchEvents_WithNoMatches_ShouldNotQueryRepository() {
         // Arrange
-        when(eventRepository.findAll()).thenReturn(Arrays.asList());
+        when(searchIndex.search("nothing", 20)).thenReturn(Arrays.asList());
 
         // Act
-        List<Event> actualEvents = eventService.getAllEvents();
+        List<EventSummary> results = eventService.searchEvents("nothing", 20);
 
         // Assert
-        assertTrue(actualEvents.isEmpty());
-        verify(eventRepository, times(1)).findAll();
+        assertTrue(results.isEmpty());
+        verify(eventRepository, never()).findSummariesByIds(any());
+    }
+
+    @Test
+    void getEventsBetween_WithBothBounds_ShouldPageThroughTheRangeInDateOrder() {
+        // Arrange
+        LocalDate from = LocalDate.of(2024, 12, 1);
+        LocalDate to = LocalDate.of(2024, 12, 31);
+        when(eventRepository.findSummariesByDateAfterUpTo(from, 0L, to, PageRequest.of(0, 2)))
+                .thenReturn(Arrays.asList(summary(1L), summary(2L)));
+        String cursor = eventService.getEventsBetween(from, to, null, 1).getNextCursor();
+        when(eventRepository.findSummariesByDateAfterUpTo(LocalDate.of(2024, 12, 25), 1L, to, PageRequest.of(0, 2)))
+                .thenReturn(Arrays.asList(summary(2L)));
+
+        // Act
+        CursorPage<EventSummary> page = eventService.getEventsBetween(from, to, cursor, 1);
+
+        // Assert
+        assertEquals(1, page.getItems().size());
+        assertEquals(2L, page.getItems().get(0).getId());
+        assertNull(page.getNextCursor());
+        verify(eventRepository, never()).findAll();
+    }
+
+    @Test
+    void getEventsBetween_WithOpenBounds_ShouldUseOneSidedQueries() {
+        // Arrange
+        LocalDate day = LocalDate.of(2024, 12, 25);
+        when(eventRepository.findSummariesByDateAfter(day, 0L, PageRequest.of(0, 21))).thenReturn(Arrays.asList(summary(1L)));
+        when(eventRepository.findSummariesByDateUpTo(day, PageRequest.of(0, 21))).thenReturn(Arrays.asList());
+
+        // Act & Assert
+        assertEquals(1, eventService.getEventsBetween(day, null, null, 20).getItems().size());
+        assertTrue(eventService.getEventsBetween(null, day, null, 20).getItems().isEmpty());
+    }
+
+    @Test
+    void getEventsBetween_WithoutBounds_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> eventService.getEventsBetween(null, null, null, 20));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void getEventsBetween_WithIdCursor_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> eventService.getEventsBetween(LocalDate.of(2024, 12, 1), null, "MQ", 20));
+    }
+
+    @Test
+    void getEventsBetween_WithInvertedRange_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> eventService.getEventsBetween(LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 1), null, 20));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void getUpcomingEvents_ShouldQueryFromTodayWithClampedLimit() {
+        // Arrange
+        when(eventRepository.findSummariesFrom(LocalDate.now(), PageRequest.of(0, EventService.MAX_PAGE_SIZE)))
+                .thenReturn(Arrays.asList(summary(1L)));
+
+        // Act
+        List<EventSummary> upcoming = eventService.getUpcomingEvents(10_000);
+
+        // Assert
+        assertEquals(1, upcoming.size());
+    }
+
+    private EventSummary summary(Long id) {
+        return new EventSummary(id, "concert", "Test Concert", LocalDate.of(2024, 12, 25), null, 1L, "Music", "A test concert", 0L);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,138 @@
+package com.example.eventsapp.service;
+
+import com.example.eventsapp.exception.RateLimitedException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateLimiterTest {
+
+    // Arbitrary origin, as with System.nanoTime
+    private final AtomicLong now = new AtomicLong(-5_000_000_000L);
+
+    @Test
+    void acquire_ShouldAdmitABurstThenReject() {
+        // Arrange
+        RateLimiter limiter = limiter(2, 3);
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire("ip:1");
+        }
+
+        // Act
+        RateLimitedException e = assertThrows(RateLimitedException.class, () -> limiter.acquire("ip:1"));
+
+        // Assert
+        assertEquals(1, e.getRetryAfterSeconds());
+        assertEquals(3, limiter.getAdmittedCount());
+        assertEquals(1, limiter.getRejectedCount());
+    }
+
+    @Test
+    void tryAcquire_ShouldRefillAtTheConfiguredRate() {
+        // Arrange: 2 per second is a token every 500 ms
+        RateLimiter limiter = limiter(2, 1);
+        assertEquals(0, limiter.tryAcquire("ip:1"));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), limiter.tryAcquire("ip:1"));
+
+        // Act
+        advance(Duration.ofMillis(400));
+        long early = limiter.tryAcquire("ip:1");
+        advance(Duration.ofMillis(100));
+        long onTime = limiter.tryAcquire("ip:1");
+
+        // Assert
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), early);
+        assertEquals(0, onTime);
+    }
+
+    @Test
+    void tryAcquire_ShouldKeepClientsApart() {
+        // Arrange
+        RateLimiter limiter = limiter(1, 1);
+        limiter.tryAcquire("ip:1");
+
+        // Act & Assert
+        assertTrue(limiter.tryAcquire("ip:1") > 0);
+        assertEquals(0, limiter.tryAcquire("key:abc"));
+    }
+
+    @Test
+    void evictIdle_ShouldDropOnlyBucketsFullForTheIdleTime() {
+        // Arrange
+        RateLimiter limiter = limiter(1, 5);
+        limiter.tryAcquire("ip:quiet");
+        advance(Duration.ofMinutes(9));
+        limiter.tryAcquire("ip:busy");
+
+        // Act: the quiet bucket has been full again since a second after its request
+        advance(Duration.ofMinutes(1).plusSeconds(1));
+        limiter.evictIdle();
+
+        // Assert
+        assertEquals(1, limiter.getClientCount());
+        assertEquals(1, limiter.getEvictedCount());
+        assertEquals(0, limiter.tryAcquire("ip:quiet"));
+    }
+
+    @Test
+    void tryAcquire_BeyondMaxClients_ShouldShareOneOverflowBucket() {
+        // Arrange
+        RateLimiter limiter = limiter(1, 1, 2);
+        limiter.tryAcquire("ip:1");
+        limiter.tryAcquire("ip:2");
+
+        // Act
+        long firstNewcomer = limiter.tryAcquire("key:fresh-1");
+        long secondNewcomer = limiter.tryAcquire("key:fresh-2");
+
+        // Assert
+        assertEquals(0, firstNewcomer);
+        assertTrue(secondNewcomer > 0);
+        assertEquals(2, limiter.getClientCount());
+        assertEquals(2, limiter.getOverflowCount());
+    }
+
+    @Test
+    void evictIdle_ShouldMakeRoomForNewClientsAgain() {
+        // Arrange
+        RateLimiter limiter = limiter(1, 1, 1);
+        limiter.tryAcquire("ip:old");
+        advance(Duration.ofMinutes(11));
+
+        // Act
+        limiter.evictIdle();
+        limiter.tryAcquire("ip:new");
+
+        // Assert
+        assertEquals(1, limiter.getClientCount());
+        assertEquals(0, limiter.getOverflowCount());
+    }
+
+    @Test
+    void acquire_WhenDisabled_ShouldAdmitEverything() {
+        // Arrange
+        RateLimiter limiter = new RateLimiter(false, 1, 1, Duration.ofMinutes(10), 100, now::get);
+
+        // Act & Assert
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire("ip:1");
+        }
+        assertEquals(0, limiter.getClientCount());
+    }
+
+    private RateLimiter limiter(double ratePerSecond, int burst) {
+        return limiter(ratePerSecond, burst, 100);
+    }
+
+    private RateLimiter limiter(double ratePerSecond, int burst, int maxClients) {
+        return new RateLimiter(true, ratePerSecond, burst, Duration.ofMinutes(10), maxClients, now::get);
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+}
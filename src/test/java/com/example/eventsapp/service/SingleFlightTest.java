@@ -0,0 +1,125 @@
+package com.example.eventsapp.service;
+
+import com.example.eventsapp.exception.NotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SingleFlightTest {
+
+    private final SingleFlight<String, String> flights = new SingleFlight<>();
+    private final ExecutorService callers = Executors.newFixedThreadPool(4);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void load_ConcurrentCallsForTheSameKey_ShouldShareOneLoad() throws Exception {
+        // Arrange: the leader blocks until every caller has joined
+        Future<String> leader = callers.submit(() -> flights.load("event-1", this::blockingLoad));
+        awaitInFlight();
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            followers.add(callers.submit(() -> flights.load("event-1", this::blockingLoad)));
+        }
+
+        // Act
+        Thread.sleep(100);
+        release.countDown();
+
+        // Assert
+        assertEquals("loaded-1", leader.get(5, TimeUnit.SECONDS));
+        for (Future<String> follower : followers) {
+            assertEquals("loaded-1", follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0, flights.inFlightCount());
+    }
+
+    @Test
+    void load_WhenTheLoadFails_ShouldGiveEveryCallerTheException() throws Exception {
+        // Arrange
+        Future<String> leader = callers.submit(() -> flights.load("event-1", () -> {
+            blockingLoad();
+            throw new NotFoundException("Event not found with id: 1");
+        }));
+        awaitInFlight();
+        Future<String> follower = callers.submit(() -> flights.load("event-1", this::blockingLoad));
+
+        // Act
+        Thread.sleep(100);
+        release.countDown();
+
+        // Assert
+        Exception leaderError = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        Exception followerError = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(NotFoundException.class, leaderError.getCause());
+        assertInstanceOf(NotFoundException.class, followerError.getCause());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void load_AfterAFlightLands_ShouldLoadAgain() {
+        // Arrange
+        release.countDown();
+        flights.load("event-1", this::blockingLoad);
+
+        // Act
+        String second = flights.load("event-1", this::blockingLoad);
+
+        // Assert
+        assertEquals("loaded-2", second);
+        assertEquals(0, flights.inFlightCount());
+    }
+
+    @Test
+    void load_InsideTransaction_ShouldNotJoinOrLead() {
+        // Arrange
+        release.countDown();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            // Act
+            flights.load("event-1", this::blockingLoad);
+
+            // Assert
+            assertEquals(0, flights.inFlightCount());
+            assertEquals(1, loads.get());
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    private String blockingLoad() {
+        int load = loads.incrementAndGet();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "loaded-" + load;
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flights.inFlightCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(1, flights.inFlightCount());
+    }
+}
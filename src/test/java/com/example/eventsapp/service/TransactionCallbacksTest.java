@@ -0,0 +1,82 @@
+package com.example.eventsapp.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TransactionCallbacksTest {
+
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void afterCommit_OutsideTransaction_ShouldRunImmediately() {
+        // Act
+        TransactionCallbacks.afterCommit(runs::incrementAndGet);
+
+        // Assert
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void afterCommit_InsideTransaction_ShouldWaitForCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        TransactionCallbacks.afterCommit(runs::incrementAndGet);
+
+        // Assert
+        assertEquals(0, runs.get());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void afterCommit_WhenTransactionRollsBack_ShouldNotRun() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        TransactionCallbacks.afterCommit(runs::incrementAndGet);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Assert
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void afterCompletion_WhenTransactionRollsBack_ShouldRun() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        TransactionCallbacks.afterCompletion(runs::incrementAndGet);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Assert
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void afterCompletion_OutsideTransaction_ShouldNotRun() {
+        // Act
+        TransactionCallbacks.afterCompletion(runs::incrementAndGet);
+
+        // Assert
+        assertEquals(0, runs.get());
+    }
+}